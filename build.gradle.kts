@@ -36,5 +36,20 @@ dependencies {
 tasks.test {
     useJUnitPlatform() {
         includeEngines("junit-jupiter")
+        // 规模测试耗时较长，不在默认的 test 中运行
+        excludeTags("benchmark")
     }
 }
+
+// 规模测试：gradle benchmark
+tasks.register<Test>("benchmark") {
+    description = "Runs the scaling tests tagged with benchmark."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform() {
+        includeEngines("junit-jupiter")
+        includeTags("benchmark")
+    }
+    shouldRunAfter(tasks.test)
+}
@@ -0,0 +1,92 @@
+package io.intellij.dsa.graph;
+
+/**
+ * EdgeBatch
+ * <p>
+ * 以原始类型数组保存的一批边 (from id, to id, weight)，顶点 id 对应 {@link VertexIndex} 中已创建的顶点，
+ * 用于批量构建图，避免逐条边解析顶点名称和创建对象。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class EdgeBatch {
+    private int[] from;
+    private int[] to;
+    private double[] weights;
+    private int size;
+
+    public EdgeBatch() {
+        this(16);
+    }
+
+    // edgesHint 预估的边数，一次分配足够的空间
+    public EdgeBatch(int edgesHint) {
+        if (edgesHint < 0) {
+            throw new IllegalArgumentException("Edges hint must be non-negative");
+        }
+        this.from = new int[edgesHint];
+        this.to = new int[edgesHint];
+        this.weights = new double[edgesHint];
+        this.size = 0;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void add(int fromId, int toId, double weight) {
+        if (fromId < 0 || toId < 0) {
+            throw new IllegalArgumentException("Vertex id must be non-negative");
+        }
+        if (this.size == this.from.length) {
+            this.grow();
+        }
+        this.from[size] = fromId;
+        this.to[size] = toId;
+        this.weights[size] = weight;
+        this.size++;
+    }
+
+    public int from(int index) {
+        return this.from[index];
+    }
+
+    public int to(int index) {
+        return this.to[index];
+    }
+
+    public double weight(int index) {
+        return this.weights[index];
+    }
+
+    // 最大的顶点 id，空批次返回 -1
+    public int maxVertexId() {
+        int max = -1;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, Math.max(from[i], to[i]));
+        }
+        return max;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(16, this.size + (this.size >> 1));
+        int[] newFrom = new int[newCapacity];
+        int[] newTo = new int[newCapacity];
+        double[] newWeights = new double[newCapacity];
+        System.arraycopy(this.from, 0, newFrom, 0, this.size);
+        System.arraycopy(this.to, 0, newTo, 0, this.size);
+        System.arraycopy(this.weights, 0, newWeights, 0, this.size);
+        this.from = newFrom;
+        this.to = newTo;
+        this.weights = newWeights;
+    }
+
+}
@@ -2,6 +2,7 @@ package io.intellij.dsa.graph;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntPredicate;
 
 /**
  * Graph
@@ -47,17 +48,62 @@ public interface Graph {
     // 连接两个点
     void connect(String from, String to, double weight);
 
+    // 校验一条边的顶点名称，批量连接在创建顶点之前调用，规则与 connect 一致
+    default void checkEdge(String from, String to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Vertex names cannot be null");
+        }
+    }
+
     // 连接两个点
     default void connect(String from, String to) {
         connect(from, to, DEFAULT_UNWEIGHTED_VALUE);
     }
 
+    // 批量连接，批次中的顶点 id 必须已在 vertexIndex 中创建，实现类应一次性分配存储
+    default void connectAll(EdgeBatch edges) {
+        VertexIndex vertexIndex = vertexIndex();
+        for (int i = 0; i < edges.size(); i++) {
+            Vertex from = vertexIndex.getVertex(edges.from(i));
+            Vertex to = vertexIndex.getVertex(edges.to(i));
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("Vertex id not found in graph");
+            }
+            connect(from.name(), to.name(), edges.weight(i));
+        }
+    }
+
     // 获取顶点的邻边
     List<Edge> adjacentEdges(String name);
 
     // 获取顶点的邻边
     List<Edge> adjacentEdges(int index);
 
+    // 顶点的出度
+    default int degree(int index) {
+        List<Edge> edges = adjacentEdges(index);
+        return edges == null ? 0 : edges.size();
+    }
+
+    // 遍历顶点的邻边，以原始类型回调邻接顶点 id 和权重，实现类应避免为每条边创建对象
+    default void forEachAdjacent(int index, IntDoubleConsumer action) {
+        List<Edge> edges = adjacentEdges(index);
+        if (edges != null) {
+            edges.forEach(edge -> action.accept(edge.getTo().id(), edge.getWeight()));
+        }
+    }
+
+    // 按邻边顺序查找第一个满足条件的邻接顶点 id，没有时返回 -1，实现类应在找到后立即结束遍历
+    default int findAdjacent(int index, IntPredicate predicate) {
+        int[] found = {-1};
+        forEachAdjacent(index, (to, weight) -> {
+            if (found[0] < 0 && predicate.test(to)) {
+                found[0] = to;
+            }
+        });
+        return found[0];
+    }
+
     // 打印图
     void showGraph();
 
@@ -60,4 +60,8 @@ public abstract class GraphCompute {
     public void reset() {
     }
 
+    // 释放当前线程缓存的资源，线程不再使用该实例计算时调用
+    public void release() {
+    }
+
 }
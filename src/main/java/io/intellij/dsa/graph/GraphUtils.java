@@ -1,11 +1,18 @@
 package io.intellij.dsa.graph;
 
+import io.intellij.dsa.graph.impl.CsrGraph;
 import io.intellij.dsa.graph.impl.DenseGraph;
 import io.intellij.dsa.graph.impl.SparseGraph;
+import io.intellij.dsa.graph.io.EdgeFileLoader;
 import lombok.Getter;
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import java.util.function.Function;
 
@@ -88,15 +95,54 @@ public class GraphUtils {
     }
 
     public void connect(List<String> lines, Function<String, EdgePO> lineToEdge) {
-        if (CollectionUtils.isNotEmpty(lines)) {
-            lines.forEach(line -> this.doConnect(line, lineToEdge));
+        if (CollectionUtils.isEmpty(lines)) {
+            return;
         }
+        // 先解析全部的边，再批量写入图
+        List<EdgePO> edges = lines.stream().map(lineToEdge).filter(Objects::nonNull).toList();
+        this.connectAll(edges);
     }
 
-    private void doConnect(String line, Function<String, EdgePO> lineToEdge) {
-        EdgePO edge = lineToEdge.apply(line);
-        if (edge != null) {
-            graph.connect(edge.from, edge.to, edge.weight);
+    public void connectAll(Collection<EdgePO> edges) {
+        this.connectAll(edges, edges.size());
+    }
+
+    // 批量连接，edgesHint 为预估的边数，用于一次性分配批次的空间，顶点索引按需扩容
+    public void connectAll(Iterable<EdgePO> edges, int edgesHint) {
+        this.connectAll(edges, edgesHint, 0);
+    }
+
+    // 批量连接，verticesHint 为预估的新顶点数，大于 0 时顶点索引一次性扩容
+    public void connectAll(Iterable<EdgePO> edges, int edgesHint, int verticesHint) {
+        if (edgesHint < 0 || verticesHint < 0) {
+            throw new IllegalArgumentException("Hint must be non-negative");
+        }
+        VertexIndex vertexIndex = graph.vertexIndex();
+        if (verticesHint > 0) {
+            vertexIndex.ensureCapacity((int) Math.min(Integer.MAX_VALUE - 8, (long) vertexIndex.size() + verticesHint));
+        }
+        EdgeBatch batch = new EdgeBatch(edgesHint);
+        try {
+            for (EdgePO edge : edges) {
+                graph.checkEdge(edge.from, edge.to);
+                int from = vertexIndex.createVertex(edge.from).id();
+                int to = vertexIndex.createVertex(edge.to).id();
+                batch.add(from, to, edge.weight);
+            }
+        } catch (IllegalArgumentException e) {
+            // 与逐条 connect 一致：出错之前的边已经连接，出错的边不创建顶点
+            graph.connectAll(batch);
+            throw e;
+        }
+        graph.connectAll(batch);
+    }
+
+    // 流式加载边列表文件，不把文件内容读成 String
+    public EdgeFileLoader.Stats load(Path file, EdgeFileLoader.Delimiter delimiter) {
+        try {
+            return new EdgeFileLoader(graph, delimiter).load(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -112,6 +158,17 @@ public class GraphUtils {
         return graphUtils.getGraph();
     }
 
+    public static Graph buildGraph(Type type, Path file, boolean directed, boolean weighted) {
+        GraphUtils graphUtils = new GraphUtils(type, directed, weighted);
+        graphUtils.load(file, EdgeFileLoader.Delimiter.SPACE);
+        return graphUtils.getGraph();
+    }
+
+    // 构建只读的压缩稀疏行图
+    public static CsrGraph buildCompressedGraph(String graphText, boolean directed, boolean weighted) {
+        return CsrGraph.of(buildGraph(Type.SPARSITY, graphText, directed, weighted));
+    }
+
     public record EdgePO(String from, String to, double weight) {
     }
 
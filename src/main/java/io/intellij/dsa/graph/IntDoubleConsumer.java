@@ -0,0 +1,16 @@
+package io.intellij.dsa.graph;
+
+/**
+ * IntDoubleConsumer
+ * <p>
+ * 邻边访问器，接收邻接顶点的 id 和边的权重，避免为每条边创建 {@link Edge} 对象
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface IntDoubleConsumer {
+
+    void accept(int vertex, double weight);
+
+}
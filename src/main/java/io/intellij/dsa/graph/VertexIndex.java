@@ -4,23 +4,44 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * VertexIndex
+ * <p>
+ * 顶点名称到顶点的索引，使用开放寻址（线性探测）的哈希表，表中只存放顶点 id，
+ * 查找和创建顶点都是 O(1)，不需要逐个比较字符串。
  *
  * @author tech@intellij.io
  * @since 2025-05-19
  */
 public class VertexIndex {
+    // 哈希表的最小和最大槽数，装载因子保持在 1/2 以下
+    private static final int MIN_TABLE_SIZE = 16;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
     @Getter
     private final List<Vertex> vertices;
-    private final Map<String, Vertex> nameIndex;
+
+    // 是否对顶点名称做 intern，名称大量重复出现时可以共享同一个字符串
+    private final boolean intern;
+
+    // 哈希槽，存放 id + 1，0 表示空槽
+    private int[] table;
+    // 每个顶点名称的哈希值，按 id 存放，扩容重建时不需要重新计算
+    private int[] hashes;
 
     public VertexIndex() {
-        this.vertices = new ArrayList<>();
-        this.nameIndex = new TreeMap<>();
+        this(0, false);
+    }
+
+    public VertexIndex(int expectedSize, boolean intern) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        this.vertices = new ArrayList<>(expectedSize);
+        this.intern = intern;
+        this.table = new int[tableSizeFor(expectedSize)];
+        this.hashes = new int[Math.max(expectedSize, 2)];
     }
 
     public boolean isEmpty() {
@@ -32,7 +53,24 @@ public class VertexIndex {
     }
 
     public Vertex getVertex(String name) {
-        return nameIndex.get(name);
+        int id = getId(name);
+        return id < 0 ? null : vertices.get(id);
+    }
+
+    // 顶点名称对应的 id，不存在时返回 -1
+    public int getId(String name) {
+        if (name == null) {
+            return -1;
+        }
+        int hash = hash(name);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash && vertices.get(id).name().equals(name)) {
+                return id;
+            }
+        }
+        return -1;
     }
 
     public Vertex getVertex(int index) {
@@ -42,14 +80,78 @@ public class VertexIndex {
         return vertices.get(index);
     }
 
+    // 预留 expectedSize 个顶点的空间，批量创建顶点前调用可以避免反复扩容
+    public void ensureCapacity(int expectedSize) {
+        if (expectedSize > hashes.length) {
+            int[] newHashes = new int[expectedSize];
+            System.arraycopy(hashes, 0, newHashes, 0, vertices.size());
+            hashes = newHashes;
+        }
+        int tableSize = tableSizeFor(expectedSize);
+        if (tableSize > table.length) {
+            this.rehash(tableSize);
+        }
+        if (vertices instanceof ArrayList<Vertex> list) {
+            list.ensureCapacity(expectedSize);
+        }
+    }
+
     public Vertex createVertex(String name) {
-        if (nameIndex.containsKey(name)) {
-            return nameIndex.get(name);
+        if (name == null) {
+            throw new IllegalArgumentException("Vertex name cannot be null");
+        }
+        int hash = hash(name);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        for (; table[slot] != 0; slot = (slot + 1) & mask) {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash && vertices.get(id).name().equals(name)) {
+                return vertices.get(id);
+            }
         }
-        Vertex vertex = new Vertex(vertices.size(), name);
+
+        int id = vertices.size();
+        Vertex vertex = new Vertex(id, intern ? name.intern() : name);
         vertices.add(vertex);
-        nameIndex.put(name, vertex);
+        if (id == hashes.length) {
+            int[] newHashes = new int[id + (id >> 1)];
+            System.arraycopy(hashes, 0, newHashes, 0, id);
+            hashes = newHashes;
+        }
+        hashes[id] = hash;
+        table[slot] = id + 1;
+        if (vertices.size() * 2L > table.length && table.length < MAX_TABLE_SIZE) {
+            this.rehash(table.length * 2);
+        }
         return vertex;
     }
 
+    private void rehash(int newTableSize) {
+        int[] newTable = new int[newTableSize];
+        int mask = newTableSize - 1;
+        for (int id = 0; id < vertices.size(); id++) {
+            int slot = hashes[id] & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = id + 1;
+        }
+        this.table = newTable;
+    }
+
+    // 打散高位，减少线性探测的聚集
+    private static int hash(String name) {
+        int h = name.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    // 不小于 2 * expectedSize 的 2 的幂
+    private static int tableSizeFor(int expectedSize) {
+        int size = MIN_TABLE_SIZE;
+        while (size < expectedSize * 2L && size < MAX_TABLE_SIZE) {
+            size <<= 1;
+        }
+        return size;
+    }
+
 }
@@ -0,0 +1,87 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.VertexIndex;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * AStar
+ * <p>
+ * A* 点到点最短路径，按 已知距离 + 启发值 的顺序扩展顶点。
+ * 启发函数必须是可采纳的（不大于真实距离），满足一致性时每个顶点只出堆一次；
+ * 不满足一致性时顶点会被重新打开，结果仍然正确。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class AStar extends GraphCompute {
+
+    // 启发函数，估计 from 到 target 的最短距离
+    @FunctionalInterface
+    public interface Heuristic {
+        double estimate(Vertex from, Vertex target);
+
+        // 恒为 0，退化为 Dijkstra
+        static Heuristic zero() {
+            return (from, target) -> 0.0;
+        }
+
+        // 平面坐标的欧氏距离，要求边的权重不小于两端点的直线距离
+        static Heuristic euclidean(ToDoubleFunction<Vertex> x, ToDoubleFunction<Vertex> y) {
+            return (from, target) -> Math.hypot(
+                    x.applyAsDouble(from) - x.applyAsDouble(target),
+                    y.applyAsDouble(from) - y.applyAsDouble(target));
+        }
+    }
+
+    private final Heuristic heuristic;
+
+    private final Workspaces<DijkstraWorkspace> workspaces = new Workspaces<>(DijkstraWorkspace::new, DijkstraWorkspace::capacity);
+
+    public AStar(Graph graph, Heuristic heuristic) {
+        super(graph);
+        checkGraph();
+        if (heuristic == null) {
+            throw new IllegalArgumentException("Heuristic cannot be null");
+        }
+        this.heuristic = heuristic;
+    }
+
+    public ShortestPath query(String source, String target) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        Vertex targetV = checkVertex(target, true);
+        VertexIndex vertexIndex = this.graph.vertexIndex();
+        boolean weighted = this.graph.isWeighted();
+
+        DijkstraWorkspace ws = workspaces.get(this.graph.getVerticesNum());
+        IndexMinHeap openSet = ws.heap;
+        ws.reset();
+        ws.relax(sourceV.id(), 0.0, -1, heuristic.estimate(sourceV, targetV));
+        while (!openSet.isEmpty()) {
+            int u = openSet.extract();
+            if (u == targetV.id()) {
+                int[] path = ws.tracePath(u);
+                return ShortestPath.of(this.graph, ws.distance[u], path, ws.pathLength);
+            }
+            double du = ws.distance[u];
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                double dv = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + du;
+                if (dv < ws.distance(v)) {
+                    ws.relax(v, dv, u, dv + heuristic.estimate(vertexIndex.getVertex(v), targetV));
+                }
+            });
+        }
+        return ShortestPath.unreachable(sourceV, targetV);
+    }
+
+    // 释放当前线程缓存的查询工作区
+    @Override
+    public void release() {
+        workspaces.release();
+    }
+
+}
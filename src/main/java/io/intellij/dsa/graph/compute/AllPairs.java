@@ -0,0 +1,237 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * AllPairs
+ * <p>
+ * 所有顶点对之间的最短路径，距离表和前驱表都是按行存放的一维数组。
+ * <ul>
+ *     <li>稠密图：分块的 Floyd–Warshall，矩阵切成 BLOCK x BLOCK 的小块，每一轮先算对角块，
+ *     再并行计算同行同列的块，最后并行计算其余的块，每个小块的数据都在缓存中</li>
+ *     <li>稀疏图：每个源点运行一次 Dijkstra，有负权重边时先用 Johnson 重新赋权</li>
+ * </ul>
+ * 默认按图的密度自动选择。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class AllPairs extends GraphCompute {
+    // 分块的边长，64 x 64 个 double 为 32KB
+    private static final int BLOCK = 64;
+
+    public enum Strategy {
+        // 按密度选择：邻接项数 * log2(V) 不小于 V * V 时使用 Floyd–Warshall
+        AUTO,
+        FLOYD_WARSHALL,
+        DIJKSTRA,
+    }
+
+    private final Strategy strategy;
+
+    public AllPairs(Graph graph) {
+        this(graph, Strategy.AUTO);
+    }
+
+    public AllPairs(Graph graph, Strategy strategy) {
+        super(graph);
+        checkGraph();
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        this.strategy = strategy;
+    }
+
+    public Result compute() {
+        checkGraph();
+        Strategy actual = this.strategy == Strategy.AUTO ? this.chooseStrategy() : this.strategy;
+        return actual == Strategy.FLOYD_WARSHALL ? this.floydWarshall() : this.repeatedDijkstra();
+    }
+
+    private Strategy chooseStrategy() {
+        long n = this.graph.getVerticesNum();
+        long entries = 0;
+        for (int v = 0; v < n; v++) {
+            entries += this.graph.degree(v);
+        }
+        double log2 = Math.max(1.0, Math.log(n) / Math.log(2));
+        return entries * log2 >= n * n ? Strategy.FLOYD_WARSHALL : Strategy.DIJKSTRA;
+    }
+
+    private Result floydWarshall() {
+        int n = this.graph.getVerticesNum();
+        Result result = new Result(this.graph, Strategy.FLOYD_WARSHALL);
+        double[] dist = result.distance;
+        int[] pred = result.pathFrom;
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0.0;
+        }
+        // 邻接矩阵的基本类型副本
+        boolean weighted = this.graph.isWeighted();
+        for (int i = 0; i < n; i++) {
+            int row = i * n, from = i;
+            this.graph.forEachAdjacent(i, (j, weight) -> {
+                double w = weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE;
+                if (from != j && w < dist[row + j]) {
+                    dist[row + j] = w;
+                    pred[row + j] = from;
+                }
+            });
+        }
+
+        int blocks = (n + BLOCK - 1) / BLOCK;
+        for (int kb = 0; kb < blocks; kb++) {
+            int k = kb;
+            // 1. 对角块
+            relaxBlock(dist, pred, n, k, k, k);
+            // 2. 与对角块同行、同列的块
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                if (b != k) {
+                    relaxBlock(dist, pred, n, k, b, k);
+                    relaxBlock(dist, pred, n, b, k, k);
+                }
+            });
+            // 3. 其余的块
+            IntStream.range(0, blocks * blocks).parallel().forEach(t -> {
+                int ib = t / blocks, jb = t % blocks;
+                if (ib != k && jb != k) {
+                    relaxBlock(dist, pred, n, ib, jb, k);
+                }
+            });
+        }
+        for (int i = 0; i < n; i++) {
+            if (dist[i * n + i] < 0) {
+                result.negativeCycle = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 用第 kb 块的中间顶点松弛 (ib, jb) 块
+    private static void relaxBlock(double[] dist, int[] pred, int n, int ib, int jb, int kb) {
+        int iEnd = Math.min(n, (ib + 1) * BLOCK), jEnd = Math.min(n, (jb + 1) * BLOCK), kEnd = Math.min(n, (kb + 1) * BLOCK);
+        int jStart = jb * BLOCK;
+        for (int k = kb * BLOCK; k < kEnd; k++) {
+            int kRow = k * n;
+            for (int i = ib * BLOCK; i < iEnd; i++) {
+                int iRow = i * n;
+                double dik = dist[iRow + k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = dik + dist[kRow + j];
+                    if (candidate < dist[iRow + j]) {
+                        dist[iRow + j] = candidate;
+                        pred[iRow + j] = pred[kRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private Result repeatedDijkstra() {
+        int n = this.graph.getVerticesNum();
+        Result result = new Result(this.graph, Strategy.DIJKSTRA);
+        // 有负权重边时改用 Johnson 重新赋权
+        boolean[] negative = new boolean[1];
+        for (int v = 0; v < n && !negative[0]; v++) {
+            this.graph.forEachAdjacent(v, (to, weight) -> negative[0] |= weight < 0);
+        }
+        Johnson johnson;
+        if (negative[0] && this.graph.isWeighted()) {
+            try {
+                johnson = new Johnson(this.graph);
+            } catch (IllegalArgumentException e) {
+                // 存在负权环，距离没有意义
+                result.negativeCycle = true;
+                return result;
+            }
+        } else {
+            johnson = null;
+        }
+        Dijkstra dijkstra = new Dijkstra(this.graph, Dijkstra.Mode.INDEXED);
+        List<Vertex> vertices = this.graph.getVertices();
+        IntStream.range(0, n).parallel().forEach(s -> {
+            String name = vertices.get(s).name();
+            Dijkstra.Result single = johnson == null ? dijkstra.compute(name) : johnson.compute(name);
+            System.arraycopy(single.distanceToSource, 0, result.distance, s * n, n);
+            System.arraycopy(single.pathFrom, 0, result.pathFrom, s * n, n);
+        });
+        return result;
+    }
+
+    public static class Result {
+        private final Graph graph;
+        @Getter
+        private final Strategy strategy;
+        private final int verticesNum;
+
+        // distance[i * V + j] 为 i 到 j 的最短距离，不可达为正无穷
+        private final double[] distance;
+        // pathFrom[i * V + j] 为 i 到 j 的最短路径上 j 的前一个顶点，-1 表示没有
+        private final int[] pathFrom;
+        private boolean negativeCycle;
+
+        Result(Graph graph, Strategy strategy) {
+            this.graph = graph;
+            this.strategy = strategy;
+            this.verticesNum = graph.getVerticesNum();
+            long cells = (long) verticesNum * verticesNum;
+            if (cells > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Too many vertices for all pairs shortest path: " + verticesNum);
+            }
+            this.distance = new double[(int) cells];
+            this.pathFrom = new int[(int) cells];
+            Arrays.fill(this.distance, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.pathFrom, -1);
+        }
+
+        public boolean hasNegativeCycle() {
+            return this.negativeCycle;
+        }
+
+        public double getDistance(String from, String to) {
+            Vertex fromV = this.graph.vertexIndex().getVertex(from);
+            Vertex toV = this.graph.vertexIndex().getVertex(to);
+            if (fromV == null || toV == null || negativeCycle) {
+                return Double.NaN;
+            }
+            return this.distance[fromV.id() * verticesNum + toV.id()];
+        }
+
+        public List<Edge> getRoutes(String from, String to) {
+            Vertex fromV = this.graph.vertexIndex().getVertex(from);
+            Vertex toV = this.graph.vertexIndex().getVertex(to);
+            if (fromV == null || toV == null || negativeCycle) {
+                return List.of();
+            }
+            int row = fromV.id() * verticesNum;
+            List<Edge> routes = new ArrayList<>();
+            for (int v = toV.id(); v != fromV.id(); ) {
+                int u = this.pathFrom[row + v];
+                if (u < 0) {
+                    // 不可达
+                    return List.of();
+                }
+                Vertex uV = this.graph.vertexIndex().getVertex(u);
+                routes.add(this.graph.getEdge(uV.name(), this.graph.vertexIndex().getVertex(v).name()));
+                v = u;
+            }
+            Collections.reverse(routes);
+            return routes;
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * BellmanFord
+ * <p>
+ * 基于队列的 Bellman-Ford（SPFA）单源最短路径，允许负权重边。
+ * <p>
+ * 只有距离变小的顶点才重新入队，队列为空时提前结束。
+ * 记录每个顶点最短路径上的边数，达到顶点数时说明存在负权环，沿前驱找到环并返回。
+ * 无向图中的负权重边本身就是一个负权环。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class BellmanFord extends GraphCompute {
+
+    public BellmanFord(Graph graph) {
+        super(graph);
+        checkGraph();
+    }
+
+    public Result compute(String source) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        Result result = new Result(sourceV, this.graph);
+        result.distanceToSource[sourceV.id()] = 0.0;
+        int cycleAt = this.spfa(result.distanceToSource, result.pathFrom, new int[]{sourceV.id()});
+        if (cycleAt >= 0) {
+            result.negativeCycle = this.cycleEdges(cycleAt, result.pathFrom);
+        } else {
+            for (int v = 0; v < this.graph.getVerticesNum(); v++) {
+                result.calculateCompleted[v] = result.distanceToSource[v] < Double.POSITIVE_INFINITY;
+            }
+        }
+        return result;
+    }
+
+    /*
+     * 从一个到所有顶点权重为 0 的虚拟源点出发的最短距离，即 Johnson 算法的顶点势能 h(v)，
+     * 存在负权环时返回 null
+     */
+    double[] potentials() {
+        int verticesNum = this.graph.getVerticesNum();
+        double[] distance = new double[verticesNum];
+        int[] pathFrom = new int[verticesNum];
+        Arrays.fill(pathFrom, -1);
+        int[] sources = new int[verticesNum];
+        for (int v = 0; v < verticesNum; v++) {
+            sources[v] = v;
+        }
+        return this.spfa(distance, pathFrom, sources) < 0 ? distance : null;
+    }
+
+    // 负权环，不存在时返回空列表
+    public List<Edge> findNegativeCycle() {
+        int verticesNum = this.graph.getVerticesNum();
+        double[] distance = new double[verticesNum];
+        int[] pathFrom = new int[verticesNum];
+        Arrays.fill(pathFrom, -1);
+        int[] sources = new int[verticesNum];
+        for (int v = 0; v < verticesNum; v++) {
+            sources[v] = v;
+        }
+        int cycleAt = this.spfa(distance, pathFrom, sources);
+        return cycleAt < 0 ? List.of() : this.cycleEdges(cycleAt, pathFrom);
+    }
+
+    // 队列版 Bellman-Ford，distance 中 sources 以外的顶点须为正无穷；发现负权环时返回环上的一个顶点，否则返回 -1
+    private int spfa(double[] distance, int[] pathFrom, int[] sources) {
+        int verticesNum = this.graph.getVerticesNum();
+        boolean weighted = this.graph.isWeighted();
+        // 循环队列，每个顶点最多在队列中出现一次
+        int[] queue = new int[verticesNum + 1];
+        boolean[] inQueue = new boolean[verticesNum];
+        // 当前最短路径上的边数
+        int[] hops = new int[verticesNum];
+        int[] head = {0}, tail = {0};
+        for (int s : sources) {
+            queue[tail[0]++] = s;
+            inQueue[s] = true;
+        }
+        int[] cycleAt = {-1};
+        int[] stamp = new int[verticesNum];
+        int[] round = {0};
+        while (head[0] != tail[0]) {
+            int u = queue[head[0]];
+            head[0] = (head[0] + 1) % queue.length;
+            inQueue[u] = false;
+            double du = distance[u];
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (cycleAt[0] >= 0) {
+                    return;
+                }
+                double dv = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + du;
+                if (dv >= distance[v]) {
+                    return;
+                }
+                distance[v] = dv;
+                pathFrom[v] = u;
+                hops[v] = hops[u] + 1;
+                // 路径边数达到顶点数时，前驱中很可能已经成环
+                if (hops[v] >= verticesNum) {
+                    round[0]++;
+                    int x = this.findCycle(v, pathFrom, stamp, round[0]);
+                    if (x >= 0) {
+                        cycleAt[0] = x;
+                        return;
+                    }
+                }
+                if (!inQueue[v]) {
+                    inQueue[v] = true;
+                    queue[tail[0]] = v;
+                    tail[0] = (tail[0] + 1) % queue.length;
+                }
+            });
+            if (cycleAt[0] >= 0) {
+                return cycleAt[0];
+            }
+        }
+        return -1;
+    }
+
+    // 沿前驱回溯，遇到本轮已访问的顶点说明成环，返回环上的顶点
+    private int findCycle(int from, int[] pathFrom, int[] stamp, int round) {
+        for (int v = from; v >= 0; v = pathFrom[v]) {
+            if (stamp[v] == round) {
+                return v;
+            }
+            stamp[v] = round;
+        }
+        return -1;
+    }
+
+    private List<Edge> cycleEdges(int cycleAt, int[] pathFrom) {
+        List<Edge> cycle = new ArrayList<>();
+        int v = cycleAt;
+        do {
+            int u = pathFrom[v];
+            Vertex fromV = this.graph.vertexIndex().getVertex(u);
+            Vertex toV = this.graph.vertexIndex().getVertex(v);
+            cycle.add(this.graph.getEdge(fromV.name(), toV.name()));
+            v = u;
+        } while (v != cycleAt);
+        Collections.reverse(cycle);
+        return cycle;
+    }
+
+    public static class Result extends Dijkstra.Result {
+        // 从源点可达的负权环，存在时距离没有意义
+        @Getter
+        private List<Edge> negativeCycle = List.of();
+
+        Result(Vertex source, Graph graph) {
+            super(source, graph);
+        }
+
+        public boolean hasNegativeCycle() {
+            return !negativeCycle.isEmpty();
+        }
+
+        @Override
+        public double getDistance(String destName) {
+            return hasNegativeCycle() ? Double.NaN : super.getDistance(destName);
+        }
+
+        @Override
+        public List<Edge> getRoutes(String destName) {
+            return hasNegativeCycle() ? List.of() : super.getRoutes(destName);
+        }
+    }
+
+}
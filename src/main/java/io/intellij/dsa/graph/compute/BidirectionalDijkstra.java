@@ -0,0 +1,106 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
+
+/**
+ * BidirectionalDijkstra
+ * <p>
+ * 双向 Dijkstra，点到点最短路径。从起点沿出边、从终点沿反向边同时扩展，
+ * 两个方向堆顶距离之和不小于已知的最短距离时停止，访问的顶点通常远少于单向搜索。
+ * <p>
+ * 有向图的反向边在构造时一次性生成，无权重为负的边。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class BidirectionalDijkstra extends GraphCompute {
+    // 反向图，无向图为原图本身
+    private final Graph reverse;
+
+    // 每个线程一对工作区：[正向, 反向]
+    private final Workspaces<DijkstraWorkspace[]> workspaces = new Workspaces<>(
+            capacity -> new DijkstraWorkspace[]{new DijkstraWorkspace(capacity), new DijkstraWorkspace(capacity)},
+            pair -> pair[0].capacity());
+
+    public BidirectionalDijkstra(Graph graph) {
+        super(graph);
+        checkGraph();
+        this.reverse = graph.isDirected() ? CsrGraph.transpose(graph) : graph;
+    }
+
+    public ShortestPath query(String source, String target) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        Vertex targetV = checkVertex(target, true);
+        int s = sourceV.id(), t = targetV.id();
+
+        DijkstraWorkspace[] pair = workspaces.get(this.graph.getVerticesNum());
+        DijkstraWorkspace forward = pair[0], backward = pair[1];
+        forward.reset();
+        backward.reset();
+        forward.relax(s, 0.0, -1);
+        backward.relax(t, 0.0, -1);
+
+        // 已知的最短距离和相遇顶点
+        double[] best = {s == t ? 0.0 : Double.POSITIVE_INFINITY};
+        int[] meet = {s == t ? s : -1};
+        IndexMinHeap forwardHeap = forward.heap, backwardHeap = backward.heap;
+        while (!forwardHeap.isEmpty() && !backwardHeap.isEmpty()) {
+            // 停止条件：两侧堆顶之和不小于已知最短距离
+            if (forwardHeap.peekKey() + backwardHeap.peekKey() >= best[0]) {
+                break;
+            }
+            // 每次扩展堆顶更小的一侧
+            if (forwardHeap.peekKey() <= backwardHeap.peekKey()) {
+                this.expand(this.graph, forward, backward, best, meet);
+            } else {
+                this.expand(this.reverse, backward, forward, best, meet);
+            }
+        }
+        if (meet[0] < 0) {
+            return ShortestPath.unreachable(sourceV, targetV);
+        }
+
+        // 正向路径 s -> meet，再接上反向前驱链 meet -> t
+        int[] forwardPath = forward.tracePath(meet[0]);
+        int forwardLength = forward.pathLength;
+        int length = forwardLength;
+        for (int v = backward.pathFrom[meet[0]]; v >= 0; v = backward.pathFrom[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        System.arraycopy(forwardPath, 0, path, 0, forwardLength);
+        for (int i = forwardLength, v = backward.pathFrom[meet[0]]; i < length; i++, v = backward.pathFrom[v]) {
+            path[i] = v;
+        }
+        return ShortestPath.of(this.graph, best[0], path, length);
+    }
+
+    // 扩展 ws 一侧的堆顶顶点，顶点同时被另一侧到达时更新最短距离
+    private void expand(Graph g, DijkstraWorkspace ws, DijkstraWorkspace other, double[] best, int[] meet) {
+        boolean weighted = g.isWeighted();
+        int u = ws.heap.extract();
+        ws.settle(u);
+        double du = ws.distance[u];
+        g.forEachAdjacent(u, (v, weight) -> {
+            if (ws.isSettled(v)) {
+                return;
+            }
+            double dv = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + du;
+            if (ws.relax(v, dv, u) && other.reached(v) && dv + other.distance[v] < best[0]) {
+                best[0] = dv + other.distance[v];
+                meet[0] = v;
+            }
+        });
+    }
+
+    // 释放当前线程缓存的查询工作区
+    @Override
+    public void release() {
+        workspaces.release();
+    }
+
+}
@@ -1,11 +1,9 @@
 package io.intellij.dsa.graph.compute;
 
-import io.intellij.dsa.graph.Edge;
 import io.intellij.dsa.graph.Graph;
 import io.intellij.dsa.graph.GraphCompute;
 import io.intellij.dsa.graph.Vertex;
-import io.intellij.dsa.uf.IndexedUnionFind;
-import io.intellij.dsa.uf.UnionFind;
+import io.intellij.dsa.uf.ArrayUnionFind;
 import lombok.Getter;
 
 import java.util.List;
@@ -20,9 +18,12 @@ import java.util.List;
  */
 public class Components extends GraphCompute {
 
+    private final Traverse traverse;
+
     public Components(Graph graph) {
         super(graph);
         checkGraph().checkDirected(false);
+        this.traverse = new Traverse(graph);
     }
 
     // 计算联通分量
@@ -38,17 +39,15 @@ public class Components extends GraphCompute {
         return result;
     }
 
-    // 递归计算
+    // 非递归的深度遍历，遍历树的每条边都合并到同一个集合
     void compute(Vertex vertex, Result result) {
-        // result.visited.put(vertex.name(), result.count);
-        result.visited[vertex.id()] = true;
-        for (Edge edge : this.graph.adjacentEdges(vertex.name())) {
-            Vertex next = edge.getTo();
-            if (!result.visited[next.id()]) {
-                this.compute(next, result);
+        this.traverse.dfs(vertex.id(), (v, from, weight, depth) -> {
+            result.visited[v] = true;
+            if (from >= 0) {
+                result.unionFind.union(from, v);
             }
-            result.unionFind.union(vertex, next);
-        }
+            return Traverse.Action.CONTINUE;
+        });
     }
 
     public static class Result {
@@ -59,12 +58,12 @@ public class Components extends GraphCompute {
 
         private final boolean[] visited;
 
-        private final UnionFind<Vertex> unionFind;
+        private final ArrayUnionFind unionFind;
 
         private Result(Graph graph) {
             this.graph = graph;
             this.visited = new boolean[graph.getVertices().size()];
-            this.unionFind = new IndexedUnionFind<>(Vertex::id);
+            this.unionFind = new ArrayUnionFind(this.visited.length);
         }
 
         public boolean hasPath(String source, String target) {
@@ -75,7 +74,7 @@ public class Components extends GraphCompute {
                 return false;
             }
 
-            return this.unionFind.isConnected(sourceV, targetV);
+            return this.unionFind.isConnected(sourceV.id(), targetV.id());
         }
 
     }
@@ -0,0 +1,583 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.VertexIndex;
+import io.intellij.dsa.graph.io.DoubleColumn;
+import io.intellij.dsa.graph.io.GraphSnapshot;
+import io.intellij.dsa.graph.io.IntColumn;
+import io.intellij.dsa.graph.io.SnapshotWriter;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * ContractionHierarchy 收缩层次
+ * <p>
+ * 预处理：按优先级（边差 + 已收缩邻居数）依次收缩顶点，收缩 v 时对每一对邻居 u -> v -> w，
+ * 若局部见证搜索找不到不经过 v 且不更长的路径，就加入捷径 u -> w，记录中间顶点 v。
+ * <p>
+ * 查询：从起点沿向上的边（指向更高层的顶点）、从终点沿向上的反向边做双向 Dijkstra，
+ * 两侧都只访问层级更高的顶点，搜索空间很小；最后把捷径递归展开为原图的边。
+ * <p>
+ * 预处理结果不依赖原图，可以保存到文件。文件沿用 {@link GraphSnapshot} 的约定（小端序、带版本的头部、各段 8 字节对齐），
+ * 加载时内存映射各段，层次可以大于 JVM 堆。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ContractionHierarchy {
+    static final long MAGIC = 0x454948434153444AL; // "JDSACHIE"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 128;
+
+    static final int FLAG_DIRECTED = 1;
+
+    // 见证搜索最多确定的顶点数，超过后认为没有见证路径，只会多加捷径，不影响正确性
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+
+    private final VertexIndex vertexIndex;
+    @Getter
+    private final boolean directed;
+    // 顶点的收缩顺序，越大层级越高
+    private final IntColumn rank;
+
+    // 向上的出边：u -> v 且 rank[v] > rank[u]，middle 为捷径的中间顶点，原图的边为 -1
+    private final IntColumn upOffsets;
+    private final IntColumn upTargets;
+    private final DoubleColumn upWeights;
+    private final IntColumn upMiddles;
+
+    // 向上的入边：u -> v 且 rank[u] > rank[v]，按 v 存放，targets 中是 u
+    private final IntColumn downOffsets;
+    private final IntColumn downSources;
+    private final DoubleColumn downWeights;
+    private final IntColumn downMiddles;
+
+    // 每个线程一对工作区：[正向, 反向]
+    private final Workspaces<DijkstraWorkspace[]> workspaces = new Workspaces<>(
+            capacity -> new DijkstraWorkspace[]{new DijkstraWorkspace(capacity), new DijkstraWorkspace(capacity)},
+            pair -> pair[0].capacity());
+
+    private ContractionHierarchy(VertexIndex vertexIndex, boolean directed, IntColumn rank,
+                                 IntColumn upOffsets, IntColumn upTargets, DoubleColumn upWeights, IntColumn upMiddles,
+                                 IntColumn downOffsets, IntColumn downSources, DoubleColumn downWeights, IntColumn downMiddles) {
+        this.vertexIndex = vertexIndex;
+        this.directed = directed;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downSources = downSources;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+    }
+
+    // 一次性预处理，生成收缩层次
+    public static ContractionHierarchy build(Graph graph) {
+        if (graph == null || graph.isEmpty()) {
+            throw new IllegalArgumentException("Graph is empty");
+        }
+        long start = System.nanoTime();
+        Contractor contractor = new Contractor(graph);
+        contractor.contractAll();
+        ContractionHierarchy ch = contractor.toHierarchy(graph);
+        log.info("contraction hierarchy built|vertices={}|shortcuts={}|cost={}ms",
+                graph.getVerticesNum(), contractor.shortcuts, (System.nanoTime() - start) / 1_000_000);
+        return ch;
+    }
+
+    public int getVerticesNum() {
+        return vertexIndex.size();
+    }
+
+    // 向上图和向下图中的边数，包含捷径
+    public int getEdgesNum() {
+        return upTargets.length() + downSources.length();
+    }
+
+    public int getShortcutsNum() {
+        int count = 0;
+        for (int pos = 0; pos < upMiddles.length(); pos++) {
+            count += upMiddles.get(pos) >= 0 ? 1 : 0;
+        }
+        for (int pos = 0; pos < downMiddles.length(); pos++) {
+            count += downMiddles.get(pos) >= 0 ? 1 : 0;
+        }
+        return count;
+    }
+
+    public ShortestPath query(String source, String target) {
+        Vertex sourceV = checkVertex(source);
+        Vertex targetV = checkVertex(target);
+        int s = sourceV.id(), t = targetV.id();
+
+        DijkstraWorkspace[] pair = workspaces.get(vertexIndex.size());
+        DijkstraWorkspace forward = pair[0], backward = pair[1];
+        forward.reset();
+        backward.reset();
+        forward.relax(s, 0.0, -1);
+        backward.relax(t, 0.0, -1);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meet = -1;
+        IndexMinHeap forwardHeap = forward.heap, backwardHeap = backward.heap;
+        while (true) {
+            boolean progressed = false;
+            // 堆顶不小于已知最短距离的一侧不再扩展
+            if (!forwardHeap.isEmpty() && forwardHeap.peekKey() < best) {
+                int u = forwardHeap.extract();
+                double du = forward.distance[u];
+                if (backward.reached(u) && du + backward.distance[u] < best) {
+                    best = du + backward.distance[u];
+                    meet = u;
+                }
+                for (int pos = upOffsets.get(u), end = upOffsets.get(u + 1); pos < end; pos++) {
+                    forward.relax(upTargets.get(pos), du + upWeights.get(pos), u);
+                }
+                progressed = true;
+            }
+            if (!backwardHeap.isEmpty() && backwardHeap.peekKey() < best) {
+                int u = backwardHeap.extract();
+                double du = backward.distance[u];
+                if (forward.reached(u) && du + forward.distance[u] < best) {
+                    best = du + forward.distance[u];
+                    meet = u;
+                }
+                for (int pos = downOffsets.get(u), end = downOffsets.get(u + 1); pos < end; pos++) {
+                    backward.relax(downSources.get(pos), du + downWeights.get(pos), u);
+                }
+                progressed = true;
+            }
+            if (!progressed) {
+                break;
+            }
+        }
+        if (meet < 0) {
+            return ShortestPath.unreachable(sourceV, targetV);
+        }
+
+        // s -> meet 的正向链，meet -> t 的反向链，逐段展开捷径
+        List<Edge> routes = new ArrayList<>();
+        int[] forwardPath = forward.tracePath(meet);
+        for (int i = 1; i < forward.pathLength; i++) {
+            unpack(forwardPath[i - 1], forwardPath[i], routes);
+        }
+        for (int v = meet; backward.pathFrom[v] >= 0; v = backward.pathFrom[v]) {
+            unpack(v, backward.pathFrom[v], routes);
+        }
+        return new ShortestPath(sourceV, targetV, best, routes);
+    }
+
+    // 把边 from -> to 展开为原图的边，用显式栈避免深层递归
+    private void unpack(int from, int to, List<Edge> routes) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{from, to});
+        while (!stack.isEmpty()) {
+            int[] edge = stack.pop();
+            int a = edge[0], b = edge[1];
+            int middle;
+            double weight;
+            // 每条边 a -> b 要么在 a 的向上出边中，要么在 b 的向上入边中
+            if (rank.get(a) < rank.get(b)) {
+                int pos = find(upOffsets, upTargets, a, b);
+                middle = upMiddles.get(pos);
+                weight = upWeights.get(pos);
+            } else {
+                int pos = find(downOffsets, downSources, b, a);
+                middle = downMiddles.get(pos);
+                weight = downWeights.get(pos);
+            }
+            if (middle < 0) {
+                routes.add(new Edge(vertexIndex.getVertex(a), vertexIndex.getVertex(b), weight));
+            } else {
+                stack.push(new int[]{middle, b});
+                stack.push(new int[]{a, middle});
+            }
+        }
+    }
+
+    // 每行按顶点 id 升序排列，二分查找
+    private static int find(IntColumn offsets, IntColumn targets, int row, int target) {
+        int low = offsets.get(row), high = offsets.get(row + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int value = targets.get(mid);
+            if (value < target) {
+                low = mid + 1;
+            } else if (value > target) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new IllegalStateException("Edge not found in hierarchy: " + row + " -> " + target);
+    }
+
+    private Vertex checkVertex(String name) {
+        if (StringUtils.isBlank(name)) {
+            throw new IllegalArgumentException("Vertex name cannot be null or empty");
+        }
+        Vertex vertex = vertexIndex.getVertex(name);
+        if (vertex == null) {
+            throw new IllegalArgumentException("Vertex not found in graph");
+        }
+        return vertex;
+    }
+
+    // 释放当前线程缓存的查询工作区，线程不再使用该实例查询时调用
+    public void release() {
+        workspaces.release();
+    }
+
+    /*
+     * 文件格式（小端序，各段按 8 字节对齐）：
+     * header  128 bytes : magic, version, flags(directed), vertices, up 边数, down 边数, names / rank / up / down 的起始位置
+     * names             : 每个顶点 int 长度 + UTF-8 字节，按顶点 id 排列
+     * rank              : int[vertices]
+     * up                : offsets int[vertices + 1], targets int[], weights double[], middles int[]
+     * down              : offsets int[vertices + 1], sources int[], weights double[], middles int[]
+     * 每行按顶点 id 升序。
+     */
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnapshotWriter writer = new SnapshotWriter(channel, HEADER_SIZE);
+            long namesPos = writer.position();
+            writer.putNames(vertexIndex.getVertices());
+            long rankPos = writer.align();
+            writer.putInts(rank);
+            long upPos = writer.align();
+            this.writeRows(writer, upOffsets, upTargets, upWeights, upMiddles);
+            long downPos = writer.align();
+            this.writeRows(writer, downOffsets, downSources, downWeights, downMiddles);
+            writer.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(directed ? FLAG_DIRECTED : 0)
+                    .putInt(vertexIndex.size())
+                    .putInt(0)
+                    .putLong(upTargets.length())
+                    .putLong(downSources.length())
+                    .putLong(namesPos)
+                    .putLong(rankPos)
+                    .putLong(upPos)
+                    .putLong(downPos);
+            writer.writeHeader(header);
+        }
+    }
+
+    // offsets、targets、weights、middles 依次写出，每段 8 字节对齐
+    private void writeRows(SnapshotWriter writer, IntColumn offsets, IntColumn targets, DoubleColumn weights,
+                           IntColumn middles) throws IOException {
+        writer.putInts(offsets);
+        writer.align();
+        writer.putInts(targets);
+        writer.align();
+        writer.putDoubles(weights);
+        writer.putInts(middles);
+    }
+
+    // 映射层次文件，堆上只保存顶点名称索引，各数组留在映射的文件页中
+    public static ContractionHierarchy load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException("Not a contraction hierarchy file");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong() != MAGIC) {
+                throw new IllegalArgumentException("Not a contraction hierarchy file");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported contraction hierarchy version: " + version);
+            }
+            boolean directed = (header.getInt() & FLAG_DIRECTED) != 0;
+            int verticesNum = header.getInt();
+            header.getInt();
+            long upEntries = header.getLong(), downEntries = header.getLong();
+            long namesPos = header.getLong(), rankPos = header.getLong(), upPos = header.getLong(), downPos = header.getLong();
+            if (verticesNum < 0 || upEntries < 0 || downEntries < 0
+                    || downPos + rowsBytes(verticesNum, downEntries) > channel.size()) {
+                throw new IllegalArgumentException("Truncated contraction hierarchy file");
+            }
+
+            VertexIndex vertexIndex = GraphSnapshot.readNames(channel, namesPos, rankPos, verticesNum);
+            if (vertexIndex.size() != verticesNum) {
+                throw new IllegalArgumentException("Duplicate vertex names in contraction hierarchy file");
+            }
+            IntColumn rank = IntColumn.map(channel, rankPos, verticesNum);
+            long targetsPos = align(upPos + (verticesNum + 1L) * Integer.BYTES);
+            long weightsPos = align(targetsPos + upEntries * Integer.BYTES);
+            long middlesPos = weightsPos + upEntries * Double.BYTES;
+            IntColumn upOffsets = IntColumn.map(channel, upPos, verticesNum + 1L);
+            IntColumn upTargets = IntColumn.map(channel, targetsPos, upEntries);
+            DoubleColumn upWeights = DoubleColumn.map(channel, weightsPos, upEntries);
+            IntColumn upMiddles = IntColumn.map(channel, middlesPos, upEntries);
+
+            targetsPos = align(downPos + (verticesNum + 1L) * Integer.BYTES);
+            weightsPos = align(targetsPos + downEntries * Integer.BYTES);
+            middlesPos = weightsPos + downEntries * Double.BYTES;
+            return new ContractionHierarchy(vertexIndex, directed, rank, upOffsets, upTargets, upWeights, upMiddles,
+                    IntColumn.map(channel, downPos, verticesNum + 1L),
+                    IntColumn.map(channel, targetsPos, downEntries),
+                    DoubleColumn.map(channel, weightsPos, downEntries),
+                    IntColumn.map(channel, middlesPos, downEntries));
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    // 一组 offsets、targets、weights、middles 占用的字节数
+    private static long rowsBytes(int verticesNum, long entries) {
+        long weightsPos = align(align((verticesNum + 1L) * Integer.BYTES) + entries * Integer.BYTES);
+        return weightsPos + entries * (Double.BYTES + Integer.BYTES);
+    }
+
+    // 收缩过程中可变的邻接表，每对顶点之间只保留最短的一条边，按顶点 id 升序排列
+    private static final class Adjacency {
+        int[] vertices = new int[4];
+        double[] weights = new double[4];
+        int[] middles = new int[4];
+        int size;
+
+        // 二分查找，不存在时返回 -(插入位置) - 1
+        int find(int vertex) {
+            return Arrays.binarySearch(vertices, 0, size, vertex);
+        }
+
+        // 在 find 返回的插入位置加入邻接顶点
+        void insert(int pos, int vertex, double weight, int middle) {
+            if (size == vertices.length) {
+                int capacity = size + (size >> 1);
+                vertices = Arrays.copyOf(vertices, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+                middles = Arrays.copyOf(middles, capacity);
+            }
+            System.arraycopy(vertices, pos, vertices, pos + 1, size - pos);
+            System.arraycopy(weights, pos, weights, pos + 1, size - pos);
+            System.arraycopy(middles, pos, middles, pos + 1, size - pos);
+            vertices[pos] = vertex;
+            weights[pos] = weight;
+            middles[pos] = middle;
+            size++;
+        }
+    }
+
+    // 预处理：顶点排序和捷径插入
+    private static final class Contractor {
+        private final int verticesNum;
+        private final Adjacency[] out;
+        private final Adjacency[] in;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] rank;
+        private final DijkstraWorkspace witness;
+        private int shortcuts;
+
+        Contractor(Graph graph) {
+            this.verticesNum = graph.getVerticesNum();
+            this.out = new Adjacency[verticesNum];
+            this.in = new Adjacency[verticesNum];
+            for (int v = 0; v < verticesNum; v++) {
+                out[v] = new Adjacency();
+                in[v] = new Adjacency();
+            }
+            this.contracted = new boolean[verticesNum];
+            this.contractedNeighbors = new int[verticesNum];
+            this.rank = new int[verticesNum];
+            this.witness = new DijkstraWorkspace(verticesNum);
+
+            boolean weighted = graph.isWeighted();
+            for (int v = 0; v < verticesNum; v++) {
+                int from = v;
+                graph.forEachAdjacent(v, (to, weight) -> {
+                    if (from != to) {
+                        addEdge(from, to, weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE, -1);
+                    }
+                });
+            }
+        }
+
+        // 加入 u -> w，已有更短或相等的边时忽略，返回是否新增或更新
+        private boolean addEdge(int u, int w, double weight, int middle) {
+            int pos = out[u].find(w);
+            if (pos < 0) {
+                out[u].insert(-pos - 1, w, weight, middle);
+                in[w].insert(-in[w].find(u) - 1, u, weight, middle);
+                return true;
+            }
+            if (weight < out[u].weights[pos]) {
+                out[u].weights[pos] = weight;
+                out[u].middles[pos] = middle;
+                int back = in[w].find(u);
+                in[w].weights[back] = weight;
+                in[w].middles[back] = middle;
+                return true;
+            }
+            return false;
+        }
+
+        void contractAll() {
+            IndexMinHeap queue = new IndexMinHeap(verticesNum);
+            for (int v = 0; v < verticesNum; v++) {
+                queue.insert(v, priority(v));
+            }
+            int order = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.extract();
+                // 懒更新：优先级变大且不再是最小时放回堆中
+                double current = priority(v);
+                if (!queue.isEmpty() && current > queue.peekKey()) {
+                    queue.insert(v, current);
+                    continue;
+                }
+                contract(v, false);
+                contracted[v] = true;
+                rank[v] = order++;
+                for (int i = 0; i < out[v].size; i++) {
+                    contractedNeighbors[out[v].vertices[i]]++;
+                }
+                for (int i = 0; i < in[v].size; i++) {
+                    contractedNeighbors[in[v].vertices[i]]++;
+                }
+            }
+        }
+
+        // 边差 + 已收缩邻居数
+        private double priority(int v) {
+            int degree = 0;
+            for (int i = 0; i < out[v].size; i++) {
+                degree += contracted[out[v].vertices[i]] ? 0 : 1;
+            }
+            for (int i = 0; i < in[v].size; i++) {
+                degree += contracted[in[v].vertices[i]] ? 0 : 1;
+            }
+            return contract(v, true) - degree + contractedNeighbors[v];
+        }
+
+        // 收缩 v，simulate 为 true 时只统计需要的捷径数
+        private int contract(int v, boolean simulate) {
+            Adjacency inV = in[v], outV = out[v];
+            double maxOut = 0.0;
+            for (int j = 0; j < outV.size; j++) {
+                if (!contracted[outV.vertices[j]]) {
+                    maxOut = Math.max(maxOut, outV.weights[j]);
+                }
+            }
+            int needed = 0;
+            for (int i = 0; i < inV.size; i++) {
+                int u = inV.vertices[i];
+                if (contracted[u]) {
+                    continue;
+                }
+                double uv = inV.weights[i];
+                witnessSearch(u, v, uv + maxOut);
+                for (int j = 0; j < outV.size; j++) {
+                    int w = outV.vertices[j];
+                    if (contracted[w] || w == u) {
+                        continue;
+                    }
+                    double via = uv + outV.weights[j];
+                    if (witness.distance(w) > via) {
+                        needed++;
+                        if (!simulate && addEdge(u, w, via, v)) {
+                            shortcuts++;
+                        }
+                    }
+                }
+            }
+            return needed;
+        }
+
+        // 从 u 出发不经过 ignore 的局部 Dijkstra，距离超过 maxDistance 或确定的顶点过多时停止
+        private void witnessSearch(int u, int ignore, double maxDistance) {
+            witness.reset();
+            witness.relax(u, 0.0, -1);
+            int settled = 0;
+            while (!witness.heap.isEmpty()) {
+                if (witness.heap.peekKey() > maxDistance || ++settled > WITNESS_SETTLE_LIMIT) {
+                    break;
+                }
+                int x = witness.heap.extract();
+                double dx = witness.distance[x];
+                Adjacency outX = out[x];
+                for (int i = 0; i < outX.size; i++) {
+                    int y = outX.vertices[i];
+                    if (y != ignore && !contracted[y]) {
+                        witness.relax(y, dx + outX.weights[i], x);
+                    }
+                }
+            }
+        }
+
+        // 邻接表有序，输出的向上、向下 CSR 每行也按顶点 id 升序，查询展开捷径时二分查找
+        ContractionHierarchy toHierarchy(Graph graph) {
+            VertexIndex vertexIndex = new VertexIndex(verticesNum, false);
+            graph.getVertices().forEach(vertex -> vertexIndex.createVertex(vertex.name()));
+
+            int[] upOffsets = new int[verticesNum + 1];
+            int[] downOffsets = new int[verticesNum + 1];
+            for (int v = 0; v < verticesNum; v++) {
+                int up = 0, down = 0;
+                for (int i = 0; i < out[v].size; i++) {
+                    up += rank[out[v].vertices[i]] > rank[v] ? 1 : 0;
+                }
+                for (int i = 0; i < in[v].size; i++) {
+                    down += rank[in[v].vertices[i]] > rank[v] ? 1 : 0;
+                }
+                upOffsets[v + 1] = upOffsets[v] + up;
+                downOffsets[v + 1] = downOffsets[v] + down;
+            }
+            int[] upTargets = new int[upOffsets[verticesNum]];
+            double[] upWeights = new double[upTargets.length];
+            int[] upMiddles = new int[upTargets.length];
+            int[] downSources = new int[downOffsets[verticesNum]];
+            double[] downWeights = new double[downSources.length];
+            int[] downMiddles = new int[downSources.length];
+            for (int v = 0; v < verticesNum; v++) {
+                int pos = upOffsets[v];
+                for (int i = 0; i < out[v].size; i++) {
+                    if (rank[out[v].vertices[i]] > rank[v]) {
+                        upTargets[pos] = out[v].vertices[i];
+                        upWeights[pos] = out[v].weights[i];
+                        upMiddles[pos++] = out[v].middles[i];
+                    }
+                }
+                pos = downOffsets[v];
+                for (int i = 0; i < in[v].size; i++) {
+                    if (rank[in[v].vertices[i]] > rank[v]) {
+                        downSources[pos] = in[v].vertices[i];
+                        downWeights[pos] = in[v].weights[i];
+                        downMiddles[pos++] = in[v].middles[i];
+                    }
+                }
+            }
+            return new ContractionHierarchy(vertexIndex, graph.isDirected(), IntColumn.of(rank),
+                    IntColumn.of(upOffsets), IntColumn.of(upTargets), DoubleColumn.of(upWeights), IntColumn.of(upMiddles),
+                    IntColumn.of(downOffsets), IntColumn.of(downSources), DoubleColumn.of(downWeights), IntColumn.of(downMiddles));
+        }
+    }
+
+}
@@ -1,6 +1,5 @@
 package io.intellij.dsa.graph.compute;
 
-import io.intellij.dsa.graph.Edge;
 import io.intellij.dsa.graph.Graph;
 import io.intellij.dsa.graph.GraphCompute;
 import io.intellij.dsa.graph.Vertex;
@@ -51,8 +50,8 @@ public class CycleAnalyzer extends GraphCompute {
 
         //  1. 如果邻居未被访问，则递归调用 DFS 继续搜索（注意传递了路径的副本)
         //  2. 如果邻居已被访问且在当前递归栈中，说明找到了一个环。记录从邻居到当前顶点的路径作为环
-        for (Edge edge : this.graph.adjacentEdges(current.id())) {
-            Vertex next = edge.getTo();
+        this.graph.forEachAdjacent(current.id(), (to, weight) -> {
+            Vertex next = this.graph.vertexIndex().getVertex(to);
             if (!visited.contains(next.name())) {
                 this.dfs(next, visited, new ArrayList<>(path), marked, record);
             } else {
@@ -71,7 +70,7 @@ public class CycleAnalyzer extends GraphCompute {
                     this.dfs(next, visited, new ArrayList<>(path), marked, record);
                 }
             }
-        }
+        });
         // 出栈
         marked.remove(current.name());
     }
@@ -0,0 +1,283 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * DeltaStepping
+ * <p>
+ * 并行的单源最短路径，无负权重边。
+ * <p>
+ * 顶点按暂定距离放入宽度为 delta 的桶中，从编号最小的桶开始：
+ * 桶内顶点的轻边（权重不大于 delta）并行松弛，直到桶不再有新顶点加入；
+ * 然后对这一桶确定的所有顶点并行松弛重边。距离用 CAS 取最小值，非负 double 的位模式与 long 同序。
+ * <p>
+ * 前驱在距离确定后统一计算，距离与 {@link Dijkstra} 相同。存在多条最短路径时，
+ * 前驱取距离严格更小的紧边中 id 最小的起点，只经由零权重边到达的顶点再沿零权重紧边确定，
+ * 因此选出的路径可能与 {@link Dijkstra} 不同，但一定是一条最短路径，且不随线程调度变化。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class DeltaStepping extends GraphCompute {
+    private static final long INFINITY_BITS = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+    // 小于这个数量的顶点直接在当前线程处理
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final double delta;
+    // 外部传入的线程池，为 null 时每次计算创建 parallelism 个线程的线程池
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    public DeltaStepping(Graph graph, double delta, int parallelism) {
+        this(graph, delta, null, parallelism);
+    }
+
+    public DeltaStepping(Graph graph, double delta, ForkJoinPool pool) {
+        this(graph, delta, pool, pool == null ? 0 : pool.getParallelism());
+    }
+
+    private DeltaStepping(Graph graph, double delta, ForkJoinPool pool, int parallelism) {
+        super(graph);
+        checkGraph();
+        if (!(delta > 0) || Double.isInfinite(delta)) {
+            throw new IllegalArgumentException("Delta must be positive");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.delta = delta;
+        this.pool = pool;
+        this.parallelism = parallelism;
+    }
+
+    public Dijkstra.Result compute(String source) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        if (this.pool != null) {
+            return this.compute(sourceV, this.pool);
+        }
+        ForkJoinPool ownPool = new ForkJoinPool(parallelism);
+        try {
+            return this.compute(sourceV, ownPool);
+        } finally {
+            ownPool.shutdown();
+        }
+    }
+
+    private Dijkstra.Result compute(Vertex sourceV, ForkJoinPool pool) {
+        int verticesNum = this.graph.getVerticesNum();
+        AtomicLongArray distance = new AtomicLongArray(verticesNum);
+        for (int v = 0; v < verticesNum; v++) {
+            distance.set(v, INFINITY_BITS);
+        }
+        distance.set(sourceV.id(), Double.doubleToRawLongBits(0.0));
+
+        TreeMap<Long, IntList> buckets = new TreeMap<>();
+        buckets.computeIfAbsent(0L, k -> new IntList()).add(sourceV.id());
+        // 去重用的标记：frontier 按轮次，settled 按桶
+        int[] frontierStamp = new int[verticesNum];
+        int[] settledStamp = new int[verticesNum];
+        int round = 0, bucketRound = 0;
+        while (!buckets.isEmpty()) {
+            long index = buckets.firstKey();
+            bucketRound++;
+            IntList settled = new IntList();
+            IntList bucket;
+            while ((bucket = buckets.remove(index)) != null) {
+                round++;
+                IntList frontier = new IntList();
+                for (int i = 0; i < bucket.size; i++) {
+                    int v = bucket.values[i];
+                    // 距离已经变小移到了更前面的桶，或者本轮已加入
+                    if (bucketOf(distance.get(v)) != index || frontierStamp[v] == round) {
+                        continue;
+                    }
+                    frontierStamp[v] = round;
+                    frontier.add(v);
+                    if (settledStamp[v] != bucketRound) {
+                        settledStamp[v] = bucketRound;
+                        settled.add(v);
+                    }
+                }
+                // 轻边可能把顶点重新放回当前桶
+                this.relax(frontier, true, distance, buckets, pool);
+            }
+            this.relax(settled, false, distance, buckets, pool);
+        }
+        return this.toResult(sourceV, distance, pool);
+    }
+
+    private long bucketOf(long distanceBits) {
+        return (long) (Double.longBitsToDouble(distanceBits) / delta);
+    }
+
+    // 并行松弛 vertices 的轻边或重边，距离变小的顶点放入对应的桶
+    private void relax(IntList vertices, boolean light, AtomicLongArray distance,
+                       TreeMap<Long, IntList> buckets, ForkJoinPool pool) {
+        List<IntList> improved = this.parallel(vertices.size, pool, (from, to) -> {
+            IntList updated = new IntList();
+            boolean weighted = this.graph.isWeighted();
+            for (int i = from; i < to; i++) {
+                int u = vertices.values[i];
+                double du = Double.longBitsToDouble(distance.get(u));
+                this.graph.forEachAdjacent(u, (v, weight) -> {
+                    double w = weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE;
+                    if ((w <= delta) != light) {
+                        return;
+                    }
+                    long candidate = Double.doubleToRawLongBits(du + w);
+                    long current = distance.get(v);
+                    while (candidate < current) {
+                        if (distance.compareAndSet(v, current, candidate)) {
+                            updated.add(v);
+                            break;
+                        }
+                        current = distance.get(v);
+                    }
+                });
+            }
+            return updated;
+        });
+        for (IntList updated : improved) {
+            for (int i = 0; i < updated.size; i++) {
+                int v = updated.values[i];
+                buckets.computeIfAbsent(bucketOf(distance.get(v)), k -> new IntList()).add(v);
+            }
+        }
+    }
+
+    // 由最终距离计算前驱：优先选择距离严格更小的紧边起点，零权重边形成的等距顶点再单独处理
+    private Dijkstra.Result toResult(Vertex sourceV, AtomicLongArray distance, ForkJoinPool pool) {
+        int verticesNum = this.graph.getVerticesNum();
+        Dijkstra.Result result = new Dijkstra.Result(sourceV, this.graph);
+        double[] dts = result.distanceToSource;
+        for (int v = 0; v < verticesNum; v++) {
+            dts[v] = Double.longBitsToDouble(distance.get(v));
+            result.calculateCompleted[v] = dts[v] < Double.POSITIVE_INFINITY;
+        }
+
+        boolean weighted = this.graph.isWeighted();
+        AtomicIntegerArray pathFrom = new AtomicIntegerArray(verticesNum);
+        for (int v = 0; v < verticesNum; v++) {
+            pathFrom.set(v, -1);
+        }
+        boolean[] hasZeroTie = new boolean[1];
+        this.parallel(verticesNum, pool, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                double du = dts[u];
+                if (du == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                int source = u;
+                this.graph.forEachAdjacent(u, (v, weight) -> {
+                    double w = weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE;
+                    if (du + w != dts[v]) {
+                        return;
+                    }
+                    if (du < dts[v]) {
+                        // 取 id 最小的起点，结果与线程调度无关
+                        pathFrom.accumulateAndGet(v, source, (a, b) -> a < 0 ? b : Math.min(a, b));
+                    } else {
+                        hasZeroTie[0] = true;
+                    }
+                });
+            }
+            return null;
+        });
+        int[] routes = result.pathFrom;
+        for (int v = 0; v < verticesNum; v++) {
+            routes[v] = pathFrom.get(v);
+        }
+        if (hasZeroTie[0]) {
+            this.resolveZeroTies(sourceV.id(), dts, routes);
+        }
+        return result;
+    }
+
+    // 只能经由零权重边到达的顶点，从已经确定前驱的顶点沿零权重紧边广度遍历
+    private void resolveZeroTies(int source, double[] dts, int[] routes) {
+        int verticesNum = this.graph.getVerticesNum();
+        boolean weighted = this.graph.isWeighted();
+        int[] queue = new int[verticesNum];
+        int head = 0, tail = 0;
+        for (int v = 0; v < verticesNum; v++) {
+            if (v == source || routes[v] >= 0) {
+                queue[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            int u = queue[head++];
+            double du = dts[u];
+            int[] end = {tail};
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                double w = weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE;
+                if (v != source && routes[v] < 0 && du + w == dts[v]) {
+                    routes[v] = u;
+                    queue[end[0]++] = v;
+                }
+            });
+            tail = end[0];
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeTask<T> {
+        T run(int from, int to);
+    }
+
+    // 把 [0, size) 切分为若干段并行执行，数量较少时在当前线程执行
+    private <T> List<T> parallel(int size, ForkJoinPool pool, RangeTask<T> task) {
+        if (size < SEQUENTIAL_THRESHOLD || parallelism == 1) {
+            return size == 0 ? List.of() : Collections.singletonList(task.run(0, size));
+        }
+        int chunks = Math.min(parallelism * 4, (size + SEQUENTIAL_THRESHOLD - 1) / SEQUENTIAL_THRESHOLD);
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<Callable<T>> callables = new ArrayList<>(chunks);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from, end = Math.min(size, from + chunkSize);
+            callables.add(() -> task.run(start, end));
+        }
+        List<T> results = new ArrayList<>(callables.size());
+        try {
+            for (Future<T> future : pool.invokeAll(callables)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Delta stepping interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Delta stepping failed", e.getCause());
+        }
+        return results;
+    }
+
+    // 可增长的 int 数组
+    private static final class IntList {
+        int[] values = new int[8];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1));
+            }
+            values[size++] = value;
+        }
+    }
+
+}
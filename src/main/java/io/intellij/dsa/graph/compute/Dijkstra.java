@@ -4,14 +4,22 @@ import io.intellij.dsa.graph.Edge;
 import io.intellij.dsa.graph.Graph;
 import io.intellij.dsa.graph.GraphCompute;
 import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Dijkstra
@@ -23,9 +31,30 @@ import java.util.stream.Collectors;
  */
 public class Dijkstra extends GraphCompute {
 
+    // 优先队列的实现方式
+    public enum Mode {
+        // PriorityQueue 懒删除，每次松弛都入队一个新元素
+        LAZY,
+        // 索引最小堆，decreaseKey 原地更新，堆中最多 V 个元素
+        INDEXED,
+    }
+
+    private final Mode mode;
+
+    // 每个线程一份查询工作区，点到点查询反复复用
+    private final Workspaces<DijkstraWorkspace> workspaces = new Workspaces<>(DijkstraWorkspace::new, DijkstraWorkspace::capacity);
+
     public Dijkstra(Graph graph) {
+        this(graph, Mode.LAZY);
+    }
+
+    public Dijkstra(Graph graph, Mode mode) {
         super(graph);
         checkGraph();
+        if (mode == null) {
+            throw new IllegalArgumentException("Mode cannot be null");
+        }
+        this.mode = mode;
     }
 
     public Result compute(String source) {
@@ -47,21 +76,14 @@ public class Dijkstra extends GraphCompute {
         }
 
         Result record = new Result(sourceV, this.graph);
+        if (this.mode == Mode.INDEXED) {
+            this.computeIndexed(sourceV.id(), record, brokenFilter);
+            return record;
+        }
         // 局部最优 更新到 全局最优
-        PriorityQueue<TotalWeight> minHeap = this.graph.adjacentEdges(sourceV.id()).stream()
-                .map(edge -> new TotalWeight(edge, this.graph.isWeighted() ? edge.getWeight() : Graph.DEFAULT_UNWEIGHTED_VALUE))
-                .peek(tw -> {
-                    int otherVertexId = tw.edge.getTo().id();
-                    record.dynamicDistanceToSource[otherVertexId] = tw.totalWeight;
-                    record.dynamicPathFrom[otherVertexId] = tw.edge;
-                })
-                .collect(Collectors.toCollection(
-                        () -> new PriorityQueue<>(Comparator.comparingDouble(TotalWeight::totalWeight)))
-                );
-
-        record.calculateCompleted[sourceV.id()] = true;
-        record.dynamicDistanceToSource[sourceV.id()] = 0.0;
-        record.dynamicPathFrom[sourceV.id()] = null;
+        PriorityQueue<TotalWeight> minHeap = new PriorityQueue<>(Comparator.comparingDouble(TotalWeight::totalWeight));
+        record.distanceToSource[sourceV.id()] = 0.0;
+        minHeap.add(new TotalWeight(sourceV.id(), 0.0));
         while (!minHeap.isEmpty()) {
             TotalWeight min = minHeap.poll();
             if (!this.compute(min, minHeap, record, brokenFilter)) {
@@ -73,39 +95,175 @@ public class Dijkstra extends GraphCompute {
 
     private boolean compute(TotalWeight min, PriorityQueue<TotalWeight> minHeap, Result record, Set<String> brokenFilter) {
         boolean[] completed = record.calculateCompleted;
-        Double[] dts = record.dynamicDistanceToSource;
-        Edge[] pathFrom = record.dynamicPathFrom;
+        double[] dts = record.distanceToSource;
+        int[] pathFrom = record.pathFrom;
 
-        Vertex toV = min.edge().getTo();
-        if (completed[toV.id()]) {
+        int toV = min.vertex();
+        if (completed[toV]) {
             return true;
         }
 
-        Double toW = dts[toV.id()];
-        List<Edge> updatedEdges = this.graph.adjacentEdges(toV.id());
-        for (Edge updatedEdge : updatedEdges) {
-            Vertex toto = updatedEdge.getTo();
-            if (completed[toto.id()]) {
-                continue;
+        double toW = dts[toV];
+        boolean weighted = this.graph.isWeighted();
+        this.graph.forEachAdjacent(toV, (toto, weight) -> {
+            if (completed[toto]) {
+                return;
             }
-            double updatedWeight = updatedEdge.getWeight() + toW;
-
-            Double totoDis = dts[toto.id()];
-            if (totoDis == null) {
-                // 没有到达过
-                dts[toto.id()] = updatedWeight;
-                pathFrom[toto.id()] = updatedEdge;
-                minHeap.add(new TotalWeight(updatedEdge, updatedWeight));
-            } else if (updatedWeight < totoDis) {
+            double updatedWeight = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + toW;
+            // 没有到达过的顶点距离为正无穷
+            if (updatedWeight < dts[toto]) {
                 // 更新最短路径
-                dts[toto.id()] = updatedWeight;
-                pathFrom[toto.id()] = updatedEdge;
-                minHeap.add(new TotalWeight(updatedEdge, updatedWeight));
+                dts[toto] = updatedWeight;
+                pathFrom[toto] = toV;
+                minHeap.add(new TotalWeight(toto, updatedWeight));
             }
+        });
+        completed[toV] = true;
+        return !canBeBroken(brokenFilter, this.graph.vertexIndex().getVertex(toV).name());
+    }
 
+    // 点到点最短路径，到达 target 后立即结束，复用当前线程的工作区，不做 O(V) 的分配和清零
+    public ShortestPath query(String source, String target) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        Vertex targetV = checkVertex(target, true);
+
+        DijkstraWorkspace ws = workspaces.get(this.graph.getVerticesNum());
+        boolean weighted = this.graph.isWeighted();
+        IndexMinHeap minHeap = ws.heap;
+        ws.reset();
+        ws.relax(sourceV.id(), 0.0, -1);
+        while (!minHeap.isEmpty()) {
+            int toV = minHeap.extract();
+            ws.settle(toV);
+            if (toV == targetV.id()) {
+                int[] path = ws.tracePath(toV);
+                return ShortestPath.of(this.graph, ws.distance[toV], path, ws.pathLength);
+            }
+            double toW = ws.distance[toV];
+            this.graph.forEachAdjacent(toV, (toto, weight) -> {
+                if (!ws.isSettled(toto)) {
+                    ws.relax(toto, (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + toW, toV);
+                }
+            });
+        }
+        return ShortestPath.unreachable(sourceV, targetV);
+    }
+
+    // 多源最短路径：所有源点同时入堆，每个顶点归属于离它最近的源点
+    public MultiSourceResult computeMultiSource(Collection<String> sources) {
+        checkGraph();
+        if (sources == null || sources.isEmpty()) {
+            throw new IllegalArgumentException("Sources cannot be empty");
+        }
+        MultiSourceResult result = new MultiSourceResult(this.graph);
+        double[] dts = result.distanceToSource;
+        int[] pathFrom = result.pathFrom;
+        int[] owner = result.owner;
+        boolean weighted = this.graph.isWeighted();
+
+        IndexMinHeap minHeap = new IndexMinHeap(this.graph.getVerticesNum());
+        for (String source : sources) {
+            int s = checkVertex(source, true).id();
+            if (!minHeap.contains(s)) {
+                dts[s] = 0.0;
+                owner[s] = s;
+                minHeap.insert(s, 0.0);
+            }
+        }
+        boolean[] completed = new boolean[this.graph.getVerticesNum()];
+        while (!minHeap.isEmpty()) {
+            int toV = minHeap.extract();
+            double toW = dts[toV];
+            completed[toV] = true;
+            this.graph.forEachAdjacent(toV, (toto, weight) -> {
+                if (completed[toto]) {
+                    return;
+                }
+                double updatedWeight = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + toW;
+                if (updatedWeight < dts[toto]) {
+                    dts[toto] = updatedWeight;
+                    pathFrom[toto] = toV;
+                    owner[toto] = owner[toV];
+                    minHeap.offer(toto, updatedWeight);
+                }
+            });
+        }
+        return result;
+    }
+
+    public record Query(String source, String target) {
+    }
+
+    // 批量点到点查询，在公共线程池中并行执行，每个线程复用自己的工作区，结果与 queries 顺序一致
+    public List<ShortestPath> queryBatch(List<Query> queries) {
+        return this.queryBatch(queries, ForkJoinPool.commonPool());
+    }
+
+    public List<ShortestPath> queryBatch(List<Query> queries, ForkJoinPool pool) {
+        ShortestPath[] results = new ShortestPath[queries.size()];
+        this.runParallel(pool, queries.size(), i -> results[i] = this.query(queries.get(i).source(), queries.get(i).target()));
+        return Arrays.asList(results);
+    }
+
+    // 批量单源最短路径，每个源点独立计算
+    public List<Result> computeBatch(List<String> sources, ForkJoinPool pool) {
+        Result[] results = new Result[sources.size()];
+        this.runParallel(pool, sources.size(), i -> results[i] = this.compute(sources.get(i)));
+        return Arrays.asList(results);
+    }
+
+    private void runParallel(ForkJoinPool pool, int size, IntConsumer task) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        try {
+            pool.submit(() -> IntStream.range(0, size).parallel().forEach(task)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch query interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Batch query failed", e.getCause());
+        }
+    }
+
+    // 释放当前线程缓存的查询工作区
+    @Override
+    public void release() {
+        workspaces.release();
+    }
+
+    // 索引最小堆版本，距离和前驱都记录在基本类型数组中，松弛时不分配对象
+    private void computeIndexed(int source, Result record, Set<String> brokenFilter) {
+        boolean[] completed = record.calculateCompleted;
+        double[] dts = record.distanceToSource;
+        int[] pathFrom = record.pathFrom;
+        boolean weighted = this.graph.isWeighted();
+
+        IndexMinHeap minHeap = new IndexMinHeap(this.graph.getVerticesNum());
+        dts[source] = 0.0;
+        minHeap.insert(source, 0.0);
+        while (!minHeap.isEmpty()) {
+            int toV = minHeap.extract();
+            double toW = dts[toV];
+            completed[toV] = true;
+            this.graph.forEachAdjacent(toV, (toto, weight) -> {
+                if (completed[toto]) {
+                    return;
+                }
+                double updatedWeight = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + toW;
+                if (updatedWeight < dts[toto]) {
+                    dts[toto] = updatedWeight;
+                    pathFrom[toto] = toV;
+                    minHeap.offer(toto, updatedWeight);
+                }
+            });
+            if (canBeBroken(brokenFilter, this.graph.vertexIndex().getVertex(toV).name())) {
+                break;
+            }
         }
-        completed[toV.id()] = true;
-        return !canBeBroken(brokenFilter, toV.name());
     }
 
     private boolean canBeBroken(Set<String> breakFilter, String complete) {
@@ -116,38 +274,59 @@ public class Dijkstra extends GraphCompute {
         return breakFilter.isEmpty();
     }
 
-    private record TotalWeight(Edge edge, double totalWeight) {
+    private record TotalWeight(int vertex, double totalWeight) {
     }
 
     public static class Result {
         private final Vertex source;
         private final Graph graph;
 
-        private final boolean[] calculateCompleted;
-        // 优化策略，索引最小堆
-        private final Double[] dynamicDistanceToSource;
-        private final Edge[] dynamicPathFrom;
+        final boolean[] calculateCompleted;
+        // 到源点的最短距离，未到达为正无穷
+        final double[] distanceToSource;
+        // 最短路径上的前一个顶点，-1 表示没有
+        final int[] pathFrom;
 
-        private Result(Vertex source, Graph graph) {
+        Result(Vertex source, Graph graph) {
             this.source = source;
             this.graph = graph;
 
             this.calculateCompleted = new boolean[graph.getVerticesNum()];
-            this.dynamicDistanceToSource = new Double[graph.getVerticesNum()];
-            this.dynamicPathFrom = new Edge[graph.getVerticesNum()];
+            this.distanceToSource = new double[graph.getVerticesNum()];
+            this.pathFrom = new int[graph.getVerticesNum()];
+            Arrays.fill(this.distanceToSource, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.pathFrom, -1);
+        }
+
+        // 到源点的最短距离，不可达时为正无穷
+        public double getDistance(String destName) {
+            Vertex destV = this.graph.vertexIndex().getVertex(destName);
+            if (destV == null || destV.id() >= this.distanceToSource.length) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return this.distanceToSource[destV.id()];
+        }
+
+        double getDistance(int vertex) {
+            return this.distanceToSource[vertex];
         }
 
         public List<Edge> getRoutes(String destName) {
             Vertex destV = this.graph.vertexIndex().getVertex(destName);
-            if (destV == null || destV.id() >= this.dynamicPathFrom.length) {
+            if (destV == null || destV.id() >= this.pathFrom.length) {
                 return List.of();
             }
 
             List<Edge> reversedRoutes = new ArrayList<>();
             while (!this.source.name().equals(destV.name())) {
-                Edge edge = this.dynamicPathFrom[destV.id()];
-                reversedRoutes.add(edge);
-                destV = edge.getFrom();
+                int from = this.pathFrom[destV.id()];
+                if (from < 0) {
+                    // 不可达
+                    return List.of();
+                }
+                Vertex fromV = this.graph.vertexIndex().getVertex(from);
+                reversedRoutes.add(this.graph.getEdge(fromV.name(), destV.name()));
+                destV = fromV;
             }
 
             List<Edge> routes = new ArrayList<>();
@@ -170,7 +349,7 @@ public class Dijkstra extends GraphCompute {
                     """;
 
             System.out.printf(titleFmt, this.source.name(), lastEdge.getTo().name());
-            System.out.println("Distance: " + dynamicDistanceToSource[lastEdge.getTo().id()] +
+            System.out.println("Distance: " + distanceToSource[lastEdge.getTo().id()] +
                     " = " +
                     edges.stream().map(Edge::getWeight).map(String::valueOf).collect(Collectors.joining(" + ")));
             System.out.print("Route:");
@@ -193,4 +372,69 @@ public class Dijkstra extends GraphCompute {
 
     }
 
+    public static class MultiSourceResult {
+        private final Graph graph;
+
+        private final double[] distanceToSource;
+        private final int[] pathFrom;
+        // 离顶点最近的源点，-1 表示所有源点都不可达
+        private final int[] owner;
+
+        MultiSourceResult(Graph graph) {
+            this.graph = graph;
+            this.distanceToSource = new double[graph.getVerticesNum()];
+            this.pathFrom = new int[graph.getVerticesNum()];
+            this.owner = new int[graph.getVerticesNum()];
+            Arrays.fill(this.distanceToSource, Double.POSITIVE_INFINITY);
+            Arrays.fill(this.pathFrom, -1);
+            Arrays.fill(this.owner, -1);
+        }
+
+        // 离顶点最近的源点，不可达时为 null
+        public Vertex getOwner(String name) {
+            Vertex vertex = this.graph.vertexIndex().getVertex(name);
+            if (vertex == null || this.owner[vertex.id()] < 0) {
+                return null;
+            }
+            return this.graph.vertexIndex().getVertex(this.owner[vertex.id()]);
+        }
+
+        // 到最近源点的距离，不可达时为正无穷
+        public double getDistance(String name) {
+            Vertex vertex = this.graph.vertexIndex().getVertex(name);
+            return vertex == null ? Double.POSITIVE_INFINITY : this.distanceToSource[vertex.id()];
+        }
+
+        // 归属于 source 的所有顶点，包括 source 本身
+        public List<Vertex> getOwnedVertices(String source) {
+            Vertex sourceV = this.graph.vertexIndex().getVertex(source);
+            if (sourceV == null) {
+                return List.of();
+            }
+            List<Vertex> owned = new ArrayList<>();
+            for (int v = 0; v < this.owner.length; v++) {
+                if (this.owner[v] == sourceV.id()) {
+                    owned.add(this.graph.vertexIndex().getVertex(v));
+                }
+            }
+            return owned;
+        }
+
+        // 从最近的源点到顶点的路径
+        public List<Edge> getRoutes(String name) {
+            Vertex destV = this.graph.vertexIndex().getVertex(name);
+            if (destV == null || this.owner[destV.id()] < 0) {
+                return List.of();
+            }
+            List<Edge> routes = new ArrayList<>();
+            for (int v = destV.id(); this.pathFrom[v] >= 0; v = this.pathFrom[v]) {
+                Vertex fromV = this.graph.vertexIndex().getVertex(this.pathFrom[v]);
+                routes.add(this.graph.getEdge(fromV.name(), this.graph.vertexIndex().getVertex(v).name()));
+            }
+            Collections.reverse(routes);
+            return routes;
+        }
+
+    }
+
 }
@@ -0,0 +1,112 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.tree.heap.IndexMinHeap;
+
+import java.util.Arrays;
+
+/**
+ * DijkstraWorkspace
+ * <p>
+ * 可复用的单次查询工作区，每个线程持有一份。
+ * <p>
+ * 距离和前驱数组只在第一次使用时按顶点数分配，之后的查询通过递增 epoch 使旧数据失效：
+ * stamp[v] != epoch 的顶点视为未到达，不需要 O(V) 的清零，一次查询的开销只和它访问过的顶点数有关。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+class DijkstraWorkspace {
+    final double[] distance;
+    final int[] pathFrom;
+    final IndexMinHeap heap;
+
+    // 顶点最近一次被访问时的 epoch
+    private final int[] stamp;
+    // 顶点最近一次出堆（确定最短距离）时的 epoch
+    private final int[] settled;
+    private int epoch;
+
+    // 还原路径用的临时数组
+    private int[] pathBuffer = new int[16];
+    int pathLength;
+
+    DijkstraWorkspace(int capacity) {
+        this.distance = new double[capacity];
+        this.pathFrom = new int[capacity];
+        this.heap = new IndexMinHeap(capacity);
+        this.stamp = new int[capacity];
+        this.settled = new int[capacity];
+    }
+
+    int capacity() {
+        return this.stamp.length;
+    }
+
+    // 开始一次新的查询
+    void reset() {
+        heap.clear();
+        if (++epoch == Integer.MAX_VALUE) {
+            // epoch 用尽时整体清零一次
+            Arrays.fill(stamp, 0);
+            Arrays.fill(settled, 0);
+            epoch = 1;
+        }
+    }
+
+    boolean reached(int v) {
+        return stamp[v] == epoch;
+    }
+
+    boolean isSettled(int v) {
+        return settled[v] == epoch;
+    }
+
+    void settle(int v) {
+        settled[v] = epoch;
+    }
+
+    // 当前查询中的距离，未到达时为正无穷
+    double distance(int v) {
+        return stamp[v] == epoch ? distance[v] : Double.POSITIVE_INFINITY;
+    }
+
+    // 距离更短时更新距离、前驱并入堆，返回是否更新
+    boolean relax(int v, double dist, int from) {
+        return relax(v, dist, from, dist);
+    }
+
+    // 同上，堆中按 key 排序，A* 的 key 为距离加上启发值
+    boolean relax(int v, double dist, int from, double key) {
+        if (stamp[v] == epoch && dist >= distance[v]) {
+            return false;
+        }
+        stamp[v] = epoch;
+        distance[v] = dist;
+        pathFrom[v] = from;
+        if (heap.contains(v)) {
+            heap.decreaseKey(v, key);
+        } else {
+            heap.insert(v, key);
+        }
+        return true;
+    }
+
+    // 从 target 沿前驱回溯到起点，按正序写入返回的数组，长度为 pathLength
+    int[] tracePath(int target) {
+        int length = 0;
+        for (int v = target; v >= 0; v = pathFrom[v]) {
+            if (length == pathBuffer.length) {
+                pathBuffer = Arrays.copyOf(pathBuffer, length + (length >> 1));
+            }
+            pathBuffer[length++] = v;
+        }
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            int t = pathBuffer[i];
+            pathBuffer[i] = pathBuffer[j];
+            pathBuffer[j] = t;
+        }
+        this.pathLength = length;
+        return pathBuffer;
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.EdgeBatch;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import lombok.Getter;
+
+/**
+ * Johnson
+ * <p>
+ * 负权重图的重新赋权：用 Bellman-Ford 求出顶点势能 h(v)，每条边的权重改为 w(u, v) + h(u) - h(v)，
+ * 新权重非负且不改变最短路径，之后每个源点都可以直接运行 Dijkstra，再把距离换算回原图。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class Johnson extends GraphCompute {
+    // 顶点势能
+    private final double[] potentials;
+    // 重新赋权后的有向图，与原图共用顶点索引
+    @Getter
+    private final Graph reweightedGraph;
+    private final Dijkstra dijkstra;
+
+    public Johnson(Graph graph) {
+        super(graph);
+        checkGraph();
+        BellmanFord bellmanFord = new BellmanFord(graph);
+        this.potentials = bellmanFord.potentials();
+        if (this.potentials == null) {
+            throw new IllegalArgumentException("Graph contains a negative cycle: " + bellmanFord.findNegativeCycle());
+        }
+
+        EdgeBatch edges = new EdgeBatch(graph.getEdgesNum());
+        boolean weighted = graph.isWeighted();
+        for (int u = 0; u < graph.getVerticesNum(); u++) {
+            int from = u;
+            graph.forEachAdjacent(u, (v, weight) -> {
+                double w = (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + potentials[from] - potentials[v];
+                // 浮点误差可能产生极小的负数
+                edges.add(from, v, Math.max(0.0, w));
+            });
+        }
+        this.reweightedGraph = CsrGraph.of(graph.vertexIndex(), true, true, edges);
+        this.dijkstra = new Dijkstra(this.reweightedGraph, Dijkstra.Mode.INDEXED);
+    }
+
+    public double getPotential(String name) {
+        return this.potentials[checkVertex(name, true).id()];
+    }
+
+    // 在重新赋权的图上运行 Dijkstra，距离换算回原图的权重
+    public Dijkstra.Result compute(String source) {
+        Vertex sourceV = checkVertex(source, true);
+        Dijkstra.Result reweighted = this.dijkstra.compute(source);
+        Dijkstra.Result result = new Dijkstra.Result(sourceV, this.graph);
+        double hs = this.potentials[sourceV.id()];
+        for (int v = 0; v < this.graph.getVerticesNum(); v++) {
+            double d = reweighted.distanceToSource[v];
+            result.distanceToSource[v] = d == Double.POSITIVE_INFINITY ? d : d - hs + this.potentials[v];
+            result.pathFrom[v] = reweighted.pathFrom[v];
+            result.calculateCompleted[v] = reweighted.calculateCompleted[v];
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,215 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * KShortestPaths
+ * <p>
+ * Yen 算法，两点之间按长度排列的前 k 条无环路径。
+ * <p>
+ * 第 i 条路径上的每个顶点都作为偏离点：根路径（起点到偏离点）上的其它顶点禁止访问，
+ * 已选路径中根路径相同的下一条边禁止使用，从偏离点到终点运行一次 Dijkstra，拼接得到候选路径。
+ * 禁止的顶点和边都记录在工作区中，不复制原图；候选路径用哈希集合去重。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class KShortestPaths extends GraphCompute {
+
+    private final Workspaces<SpurWorkspace> workspaces = new Workspaces<>(SpurWorkspace::new, ws -> ws.banned.length);
+
+    public KShortestPaths(Graph graph) {
+        super(graph);
+        checkGraph();
+    }
+
+    public List<ShortestPath> compute(String source, String target, int k) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        Vertex targetV = checkVertex(target, true);
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be positive");
+        }
+        int s = sourceV.id(), t = targetV.id();
+        SpurWorkspace ws = workspaces.get(this.graph.getVerticesNum());
+
+        List<Path> accepted = new ArrayList<>(k);
+        PriorityQueue<Path> candidates = new PriorityQueue<>();
+        Set<Path> seen = new HashSet<>();
+
+        ws.nextEpoch();
+        Path first = this.spurPath(ws, s, t, new int[0], 0);
+        if (first != null) {
+            candidates.add(first);
+            seen.add(first);
+        }
+        while (accepted.size() < k && !candidates.isEmpty()) {
+            Path path = candidates.poll();
+            accepted.add(path);
+            if (accepted.size() == k) {
+                break;
+            }
+            // 以 path 上除终点外的每个顶点作为偏离点
+            for (int i = 0; i + 1 < path.vertices.length; i++) {
+                int spur = path.vertices[i];
+                // 根路径相同的已选路径，禁止它们从偏离点出发的下一条边
+                int[] bannedTargets = new int[accepted.size()];
+                int bannedCount = 0;
+                for (Path other : accepted) {
+                    if (other.vertices.length > i + 1 && other.sharesRoot(path, i)) {
+                        bannedTargets[bannedCount++] = other.vertices[i + 1];
+                    }
+                }
+                // 根路径上偏离点之前的顶点禁止访问
+                ws.nextEpoch();
+                for (int j = 0; j < i; j++) {
+                    ws.ban(path.vertices[j]);
+                }
+                Path spurPath = this.spurPath(ws, spur, t, bannedTargets, bannedCount);
+                if (spurPath == null) {
+                    continue;
+                }
+                Path candidate = path.join(i, spurPath);
+                if (seen.add(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        List<ShortestPath> result = new ArrayList<>(accepted.size());
+        for (Path path : accepted) {
+            result.add(ShortestPath.of(this.graph, path.cost(), path.vertices, path.vertices.length));
+        }
+        return result;
+    }
+
+    // 从 spur 到 target 的 Dijkstra，跳过本轮禁止的顶点，以及 spur 出发到 bannedTargets 的边
+    private Path spurPath(SpurWorkspace sws, int spur, int target, int[] bannedTargets, int bannedCount) {
+        boolean weighted = this.graph.isWeighted();
+        DijkstraWorkspace ws = sws.dijkstra;
+        IndexMinHeap minHeap = ws.heap;
+        ws.reset();
+        ws.relax(spur, 0.0, -1);
+        while (!minHeap.isEmpty()) {
+            int u = minHeap.extract();
+            ws.settle(u);
+            if (u == target) {
+                int[] vertices = Arrays.copyOf(ws.tracePath(u), ws.pathLength);
+                double[] prefix = new double[vertices.length];
+                for (int i = 0; i < vertices.length; i++) {
+                    prefix[i] = ws.distance[vertices[i]];
+                }
+                return new Path(vertices, prefix);
+            }
+            double du = ws.distance[u];
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (ws.isSettled(v) || sws.isBanned(v)) {
+                    return;
+                }
+                if (u == spur) {
+                    for (int i = 0; i < bannedCount; i++) {
+                        if (bannedTargets[i] == v) {
+                            return;
+                        }
+                    }
+                }
+                ws.relax(v, (weighted ? weight : Graph.DEFAULT_UNWEIGHTED_VALUE) + du, u);
+            });
+        }
+        return null;
+    }
+
+    // 释放当前线程缓存的查询工作区
+    @Override
+    public void release() {
+        workspaces.release();
+    }
+
+    // 偏离路径搜索的工作区，禁止访问的顶点按 epoch 标记，不需要清零
+    private static final class SpurWorkspace {
+        private final DijkstraWorkspace dijkstra;
+        private final int[] banned;
+        private int epoch;
+
+        SpurWorkspace(int capacity) {
+            this.dijkstra = new DijkstraWorkspace(capacity);
+            this.banned = new int[capacity];
+        }
+
+        void nextEpoch() {
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(banned, 0);
+                epoch = 1;
+            }
+        }
+
+        void ban(int v) {
+            banned[v] = epoch;
+        }
+
+        boolean isBanned(int v) {
+            return banned[v] == epoch;
+        }
+    }
+
+    // 路径的顶点序列和到每个顶点的累计距离，按顶点序列判等
+    private static final class Path implements Comparable<Path> {
+        private final int[] vertices;
+        private final double[] prefix;
+        private final int hash;
+
+        Path(int[] vertices, double[] prefix) {
+            this.vertices = vertices;
+            this.prefix = prefix;
+            this.hash = Arrays.hashCode(vertices);
+        }
+
+        double cost() {
+            return prefix[prefix.length - 1];
+        }
+
+        // 前 i + 1 个顶点是否相同
+        boolean sharesRoot(Path other, int i) {
+            return Arrays.equals(this.vertices, 0, i + 1, other.vertices, 0, i + 1);
+        }
+
+        // 本路径前 i 个顶点作为根路径，接上从第 i 个顶点出发的偏离路径
+        Path join(int i, Path spur) {
+            int length = i + spur.vertices.length;
+            int[] joined = Arrays.copyOf(this.vertices, length);
+            double[] joinedPrefix = Arrays.copyOf(this.prefix, length);
+            double rootCost = this.prefix[i];
+            for (int j = 0; j < spur.vertices.length; j++) {
+                joined[i + j] = spur.vertices[j];
+                joinedPrefix[i + j] = rootCost + spur.prefix[j];
+            }
+            return new Path(joined, joinedPrefix);
+        }
+
+        @Override
+        public int compareTo(Path other) {
+            int c = Double.compare(this.cost(), other.cost());
+            return c != 0 ? c : Integer.compare(this.vertices.length, other.vertices.length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Path other && this.hash == other.hash && Arrays.equals(this.vertices, other.vertices);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+}
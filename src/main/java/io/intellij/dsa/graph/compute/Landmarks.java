@@ -0,0 +1,119 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Landmarks
+ * <p>
+ * ALT（A*, Landmarks, Triangle inequality）启发函数，不需要坐标。
+ * 预先计算每个地标 L 到所有顶点的距离 d(L, v) 以及所有顶点到 L 的距离 d(v, L)，由三角不等式
+ * <pre>
+ *   d(v, t) >= d(L, t) - d(L, v)
+ *   d(v, t) >= d(v, L) - d(t, L)
+ * </pre>
+ * 取所有地标中的最大值作为下界，估计值是可采纳的。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class Landmarks implements AStar.Heuristic {
+    @Getter
+    private final List<Vertex> landmarks;
+    // fromLandmark[i][v] = d(L_i, v)
+    private final double[][] fromLandmark;
+    // toLandmark[i][v] = d(v, L_i)，无向图与 fromLandmark 相同
+    private final double[][] toLandmark;
+
+    private Landmarks(List<Vertex> landmarks, double[][] fromLandmark, double[][] toLandmark) {
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+    }
+
+    // 最远点策略选择 count 个地标：每次选离已选地标最远的可达顶点
+    public static Landmarks select(Graph graph, int count) {
+        if (graph == null || graph.isEmpty()) {
+            throw new IllegalArgumentException("Graph is empty");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("Landmarks count must be positive");
+        }
+        int verticesNum = graph.getVerticesNum();
+        count = Math.min(count, verticesNum);
+
+        List<Vertex> landmarks = new ArrayList<>(count);
+        double[] minDistance = new double[verticesNum];
+        Arrays.fill(minDistance, Double.POSITIVE_INFINITY);
+        Dijkstra dijkstra = new Dijkstra(graph, Dijkstra.Mode.INDEXED);
+        Vertex next = graph.vertexIndex().getVertex(0);
+        for (int i = 0; i < count && next != null; i++) {
+            landmarks.add(next);
+            Dijkstra.Result result = dijkstra.compute(next.name());
+            int farthest = -1;
+            for (int v = 0; v < verticesNum; v++) {
+                minDistance[v] = Math.min(minDistance[v], result.getDistance(v));
+                // 不可达的顶点优先作为新的地标，覆盖其它连通分量
+                if (minDistance[v] > 0 && (farthest < 0 || minDistance[v] > minDistance[farthest])) {
+                    farthest = v;
+                }
+            }
+            next = farthest < 0 ? null : graph.vertexIndex().getVertex(farthest);
+        }
+        return of(graph, landmarks);
+    }
+
+    // 使用给定的地标
+    public static Landmarks of(Graph graph, List<Vertex> landmarks) {
+        if (graph == null || graph.isEmpty()) {
+            throw new IllegalArgumentException("Graph is empty");
+        }
+        if (landmarks == null || landmarks.isEmpty()) {
+            throw new IllegalArgumentException("Landmarks cannot be empty");
+        }
+        Dijkstra forward = new Dijkstra(graph, Dijkstra.Mode.INDEXED);
+        Dijkstra backward = graph.isDirected() ? new Dijkstra(CsrGraph.transpose(graph), Dijkstra.Mode.INDEXED) : null;
+
+        double[][] fromLandmark = new double[landmarks.size()][];
+        double[][] toLandmark = new double[landmarks.size()][];
+        for (int i = 0; i < landmarks.size(); i++) {
+            String name = landmarks.get(i).name();
+            fromLandmark[i] = distances(forward.compute(name), graph.getVerticesNum());
+            toLandmark[i] = backward == null ? fromLandmark[i] : distances(backward.compute(name), graph.getVerticesNum());
+        }
+        return new Landmarks(List.copyOf(landmarks), fromLandmark, toLandmark);
+    }
+
+    private static double[] distances(Dijkstra.Result result, int verticesNum) {
+        double[] distances = new double[verticesNum];
+        for (int v = 0; v < verticesNum; v++) {
+            distances[v] = result.getDistance(v);
+        }
+        return distances;
+    }
+
+    @Override
+    public double estimate(Vertex from, Vertex target) {
+        int v = from.id(), t = target.id();
+        double best = 0.0;
+        for (int i = 0; i < fromLandmark.length; i++) {
+            // 只使用两端距离都有限的项，保证可采纳
+            double lt = fromLandmark[i][t], lv = fromLandmark[i][v];
+            if (lt < Double.POSITIVE_INFINITY && lv < Double.POSITIVE_INFINITY) {
+                best = Math.max(best, lt - lv);
+            }
+            double vl = toLandmark[i][v], tl = toLandmark[i][t];
+            if (vl < Double.POSITIVE_INFINITY && tl < Double.POSITIVE_INFINITY) {
+                best = Math.max(best, vl - tl);
+            }
+        }
+        return best;
+    }
+
+}
@@ -4,14 +4,20 @@ import io.intellij.dsa.graph.Edge;
 import io.intellij.dsa.graph.Graph;
 import io.intellij.dsa.graph.GraphCompute;
 import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
+import io.intellij.dsa.uf.ArrayUnionFind;
 import io.intellij.dsa.uf.IndexedUnionFind;
 import io.intellij.dsa.uf.UnionFind;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
 
 /**
  * Mst 最小生成树
@@ -32,13 +38,18 @@ public class Mst extends GraphCompute {
         Vertex start = this.graph.vertexIndex().getVertex(0);
         PriorityQueue<Edge> minHeap = new PriorityQueue<>(Comparator.comparingDouble(Edge::getWeight));
         this.lazyPrim(start, visited, minHeap, result);
-        return result;
+        return this.spanning(result);
     }
 
     // prim: 深度遍历 + 切分
     private void lazyPrim(Vertex vertex, boolean[] visited, PriorityQueue<Edge> minHeap, Result result) {
         visited[vertex.id()] = true;
-        minHeap.addAll(this.graph.adjacentEdges(vertex.id()));
+        // 只有通往未访问顶点的边才可能成为横切边
+        this.graph.forEachAdjacent(vertex.id(), (to, weight) -> {
+            if (!visited[to]) {
+                minHeap.add(new Edge(vertex, this.graph.vertexIndex().getVertex(to), weight));
+            }
+        });
 
         while (!minHeap.isEmpty()) {
             Edge min = minHeap.poll();
@@ -58,6 +69,169 @@ public class Mst extends GraphCompute {
 
     }
 
+    // eager prim: 索引最小堆按顶点保存当前最短的横切边，堆中最多 V 个元素，非递归
+    public Result eagerPrim() {
+        Result result = new Result();
+        this.eagerPrim(0, new PrimState(this.graph.getVerticesNum()), result);
+        return this.spanning(result);
+    }
+
+    /*
+     * 最小生成森林：图不连通时，每个连通分量各生成一棵树。
+     * 按顶点顺序找到未访问的顶点就从它开始一轮 eager prim，每一轮恰好覆盖一个连通分量，
+     * 只遍历一次图，不需要先计算连通分量。
+     */
+    public Forest forest() {
+        int verticesNum = this.graph.getVerticesNum();
+        Forest forest = new Forest(this.graph);
+        PrimState state = new PrimState(verticesNum);
+        List<Double> weights = new ArrayList<>();
+        for (int v = 0; v < verticesNum; v++) {
+            if (state.visited[v]) {
+                continue;
+            }
+            int first = state.visitedNum;
+            double weight = this.eagerPrim(v, state, forest);
+            for (int i = first; i < state.visitedNum; i++) {
+                forest.component[state.order[i]] = weights.size();
+            }
+            weights.add(weight);
+        }
+        forest.componentWeights = weights.stream().mapToDouble(Double::doubleValue).toArray();
+        return forest;
+    }
+
+    // 从 start 开始的一轮 eager prim，返回这一轮生成树的权重，本轮访问的顶点追加在 state.order 中
+    private double eagerPrim(int start, PrimState state, Result result) {
+        boolean[] visited = state.visited;
+        int[] edgeFrom = state.edgeFrom;
+        double[] edgeWeight = state.edgeWeight;
+        IndexMinHeap minHeap = state.heap;
+        double treeWeight = 0;
+
+        minHeap.insert(start, 0.0);
+        edgeFrom[start] = -1;
+        while (!minHeap.isEmpty()) {
+            int u = minHeap.extract();
+            visited[u] = true;
+            state.order[state.visitedNum++] = u;
+            if (edgeFrom[u] >= 0) {
+                Vertex fromV = this.graph.vertexIndex().getVertex(edgeFrom[u]);
+                result.edges.add(new Edge(fromV, this.graph.vertexIndex().getVertex(u), edgeWeight[u]));
+                result.totalWeight += edgeWeight[u];
+                treeWeight += edgeWeight[u];
+            }
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (visited[v]) {
+                    return;
+                }
+                if (!minHeap.contains(v)) {
+                    edgeFrom[v] = u;
+                    edgeWeight[v] = weight;
+                    minHeap.insert(v, weight);
+                } else if (weight < minHeap.key(v)) {
+                    edgeFrom[v] = u;
+                    edgeWeight[v] = weight;
+                    minHeap.decreaseKey(v, weight);
+                }
+            });
+        }
+        return treeWeight;
+    }
+
+    // eager prim 的工作数组，生成森林时各轮共用
+    private static final class PrimState {
+        private final boolean[] visited;
+        // 连接顶点与生成树的最短边
+        private final int[] edgeFrom;
+        private final double[] edgeWeight;
+        private final IndexMinHeap heap;
+        // 按访问顺序排列的顶点
+        private final int[] order;
+        private int visitedNum;
+
+        PrimState(int verticesNum) {
+            this.visited = new boolean[verticesNum];
+            this.edgeFrom = new int[verticesNum];
+            this.edgeWeight = new double[verticesNum];
+            this.heap = new IndexMinHeap(verticesNum);
+            this.order = new int[verticesNum];
+        }
+    }
+
+    /*
+     * boruvka: 每一轮并行找出每个顶点连向其它分量的最短边，再按分量归约，
+     * 每个分量的最短边都属于最小生成树，合并后分量数至少减半。
+     * 权重相同时按 (较小顶点, 较大顶点) 比较，保证不会选出环。
+     */
+    public Result boruvka() {
+        Result result = new Result();
+        int verticesNum = this.graph.getVerticesNum();
+        ArrayUnionFind uf = new ArrayUnionFind(verticesNum);
+        int[] component = new int[verticesNum];
+        for (int v = 0; v < verticesNum; v++) {
+            component[v] = v;
+        }
+        // 每个顶点连向其它分量的最短边的另一端，-1 表示没有
+        int[] bestTo = new int[verticesNum];
+        double[] bestWeight = new double[verticesNum];
+        // 每个分量的最短边的起点，按分量的根存放
+        int[] componentBest = new int[verticesNum];
+
+        boolean merged = true;
+        while (merged && uf.getSets() > 1) {
+            IntStream.range(0, verticesNum).parallel().forEach(u -> {
+                int[] to = {-1};
+                double[] min = {Double.POSITIVE_INFINITY};
+                this.graph.forEachAdjacent(u, (v, weight) -> {
+                    if (component[v] != component[u] && lighter(weight, u, v, min[0], u, to[0])) {
+                        min[0] = weight;
+                        to[0] = v;
+                    }
+                });
+                bestTo[u] = to[0];
+                bestWeight[u] = min[0];
+            });
+
+            Arrays.fill(componentBest, -1);
+            for (int u = 0; u < verticesNum; u++) {
+                if (bestTo[u] < 0) {
+                    continue;
+                }
+                int c = component[u], current = componentBest[c];
+                if (current < 0 || lighter(bestWeight[u], u, bestTo[u], bestWeight[current], current, bestTo[current])) {
+                    componentBest[c] = u;
+                }
+            }
+
+            merged = false;
+            for (int c = 0; c < verticesNum; c++) {
+                int u = componentBest[c];
+                // 两个分量可能选中同一条边，只加入一次
+                if (u >= 0 && uf.union(u, bestTo[u])) {
+                    Vertex fromV = this.graph.vertexIndex().getVertex(u);
+                    result.edges.add(new Edge(fromV, this.graph.vertexIndex().getVertex(bestTo[u]), bestWeight[u]));
+                    result.totalWeight += bestWeight[u];
+                    merged = true;
+                }
+            }
+            for (int v = 0; v < verticesNum; v++) {
+                component[v] = uf.find(v);
+            }
+        }
+        return this.spanning(result);
+    }
+
+    // 边 (u1, v1, w1) 是否比 (u2, v2, w2) 更轻，v2 < 0 表示没有边
+    private static boolean lighter(double w1, int u1, int v1, double w2, int u2, int v2) {
+        if (v2 < 0 || w1 != w2) {
+            return v2 < 0 || w1 < w2;
+        }
+        int a1 = Math.min(u1, v1), b1 = Math.max(u1, v1);
+        int a2 = Math.min(u2, v2), b2 = Math.max(u2, v2);
+        return a1 != a2 ? a1 < a2 : b1 < b2;
+    }
+
     // kruskal: 最小堆 + 并查集 + 切分
     public Result kruskal() {
         Result result = new Result();
@@ -81,7 +255,173 @@ public class Mst extends GraphCompute {
                 vertexUF.union(fromV, toV);
             }
         }
-        return result;
+        return this.spanning(result);
+    }
+
+    /*
+     * kruskal 排序版：不经过 getEdges，直接从邻接表把每条无向边（from < to）抽取一次到基本类型数组，
+     * 按权重排序后用数组并查集合并，选够 V - 1 条边即结束。
+     * 三个边数组按 (权重, from, to) 原地并行快速排序，不需要下标数组或权重副本，
+     * 权重相同的边按顶点编号排列，结果与抽取顺序无关。
+     */
+    public Result sortedKruskal() {
+        Result result = new Result();
+        int verticesNum = this.graph.getVerticesNum();
+
+        // 每个顶点抽取的边数和在边数组中的起始位置
+        int[] offset = new int[verticesNum + 1];
+        IntStream.range(0, verticesNum).parallel().forEach(u -> {
+            int[] count = {0};
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (u < v) {
+                    count[0]++;
+                }
+            });
+            offset[u + 1] = count[0];
+        });
+        for (int u = 0; u < verticesNum; u++) {
+            offset[u + 1] += offset[u];
+        }
+        int edgesNum = offset[verticesNum];
+        int[] from = new int[edgesNum];
+        int[] to = new int[edgesNum];
+        double[] weights = new double[edgesNum];
+        IntStream.range(0, verticesNum).parallel().forEach(u -> {
+            int[] next = {offset[u]};
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (u < v) {
+                    int i = next[0]++;
+                    from[i] = u;
+                    to[i] = v;
+                    weights[i] = weight;
+                }
+            });
+        });
+
+        ForkJoinPool.commonPool().invoke(new EdgeSort(from, to, weights, 0, edgesNum));
+        ArrayUnionFind uf = new ArrayUnionFind(verticesNum);
+        for (int i = 0; i < edgesNum && result.edges.size() < verticesNum - 1; i++) {
+            if (uf.union(from[i], to[i])) {
+                Vertex fromV = this.graph.vertexIndex().getVertex(from[i]);
+                result.edges.add(new Edge(fromV, this.graph.vertexIndex().getVertex(to[i]), weights[i]));
+                result.totalWeight += weights[i];
+            }
+        }
+        return this.spanning(result);
+    }
+
+    // 按 (权重, from, to) 升序原地排序 [lo, hi) 的边，大区间分区后并行排序两侧
+    @SuppressWarnings("serial")
+    private static final class EdgeSort extends RecursiveAction {
+        // 区间不超过该长度时在当前线程串行排序
+        private static final int PARALLEL_GRAIN = 1 << 13;
+        // 区间不超过该长度时插入排序
+        private static final int INSERTION_GRAIN = 32;
+
+        private final int[] from;
+        private final int[] to;
+        private final double[] weights;
+        private final int lo;
+        private final int hi;
+
+        EdgeSort(int[] from, int[] to, double[] weights, int lo, int hi) {
+            this.from = from;
+            this.to = to;
+            this.weights = weights;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= PARALLEL_GRAIN) {
+                this.sort(lo, hi);
+                return;
+            }
+            int p = this.partition(lo, hi);
+            invokeAll(new EdgeSort(from, to, weights, lo, p), new EdgeSort(from, to, weights, p, hi));
+        }
+
+        private void sort(int lo, int hi) {
+            while (hi - lo > INSERTION_GRAIN) {
+                int p = this.partition(lo, hi);
+                // 递归较短的一侧，栈深度为 O(log n)
+                if (p - lo < hi - p) {
+                    this.sort(lo, p);
+                    lo = p;
+                } else {
+                    this.sort(p, hi);
+                    hi = p;
+                }
+            }
+            for (int i = lo + 1; i < hi; i++) {
+                double w = weights[i];
+                int f = from[i], t = to[i];
+                int j = i - 1;
+                for (; j >= lo && this.compare(j, w, f, t) > 0; j--) {
+                    weights[j + 1] = weights[j];
+                    from[j + 1] = from[j];
+                    to[j + 1] = to[j];
+                }
+                weights[j + 1] = w;
+                from[j + 1] = f;
+                to[j + 1] = t;
+            }
+        }
+
+        // 三数取中作为基准的 Hoare 分区，返回 p 使 [lo, p) 不大于 [p, hi)，两侧都不为空
+        private int partition(int lo, int hi) {
+            int mid = (lo + hi) >>> 1, last = hi - 1;
+            if (this.less(mid, lo)) {
+                this.swap(mid, lo);
+            }
+            if (this.less(last, lo)) {
+                this.swap(last, lo);
+            }
+            if (this.less(last, mid)) {
+                this.swap(last, mid);
+            }
+            this.swap(lo, mid);
+            double w = weights[lo];
+            int f = from[lo], t = to[lo];
+            int i = lo - 1, j = hi;
+            while (true) {
+                do {
+                    i++;
+                } while (this.compare(i, w, f, t) < 0);
+                do {
+                    j--;
+                } while (this.compare(j, w, f, t) > 0);
+                if (i >= j) {
+                    return j + 1;
+                }
+                this.swap(i, j);
+            }
+        }
+
+        private int compare(int i, double w, int f, int t) {
+            int c = Double.compare(weights[i], w);
+            if (c == 0) {
+                c = Integer.compare(from[i], f);
+            }
+            return c == 0 ? Integer.compare(to[i], t) : c;
+        }
+
+        private boolean less(int i, int j) {
+            return this.compare(i, weights[j], from[j], to[j]) < 0;
+        }
+
+        private void swap(int i, int j) {
+            double w = weights[i];
+            weights[i] = weights[j];
+            weights[j] = w;
+            int f = from[i];
+            from[i] = from[j];
+            from[j] = f;
+            int t = to[i];
+            to[i] = to[j];
+            to[j] = t;
+        }
     }
 
     public static class Result {
@@ -97,11 +437,46 @@ public class Mst extends GraphCompute {
         }
     }
 
+    public static class Forest extends Result {
+        private final Graph graph;
+        // 每个顶点所在的连通分量，按生成顺序编号
+        private final int[] component;
+        // 每个连通分量的生成树权重
+        private double[] componentWeights;
+
+        Forest(Graph graph) {
+            this.graph = graph;
+            this.component = new int[graph.getVerticesNum()];
+        }
+
+        public int getComponentsNum() {
+            return this.componentWeights.length;
+        }
+
+        // 顶点所在连通分量的编号，顶点不存在时返回 -1
+        public int getComponent(String vertex) {
+            int id = this.graph.vertexIndex().getId(vertex);
+            return id < 0 ? -1 : this.component[id];
+        }
+
+        public double getComponentWeight(int index) {
+            if (index < 0 || index >= this.componentWeights.length) {
+                throw new IllegalArgumentException("Component out of range: " + index);
+            }
+            return this.componentWeights[index];
+        }
+    }
+
     private void check() {
         checkGraph().checkDirected(false).checkWeighted(true);
-        if (new Components(this.graph).compute().getCount() > 1) {
+    }
+
+    // 生成树必须有 V - 1 条边，否则图不连通，应使用 forest
+    private Result spanning(Result result) {
+        if (result.edges.size() != this.graph.getVerticesNum() - 1) {
             throw new IllegalArgumentException("Graph is not connected");
         }
+        return result;
     }
 
 
@@ -0,0 +1,350 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphCompute;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntPredicate;
+
+/**
+ * ParallelBfs
+ * <p>
+ * 方向优化的并行广度遍历（Beamer），按层同步推进，每一层选择两种方式之一：
+ * <ul>
+ *     <li>自顶向下：前沿顶点检查自己的所有邻接顶点，用 CAS 抢占未访问的顶点，前沿较小时使用</li>
+ *     <li>自底向上：每个未访问的顶点在反向邻接顶点中查找前沿顶点，找到一个就停止，
+ *     前沿很大时检查的边远少于自顶向下</li>
+ * </ul>
+ * 前沿顶点的出边数超过未访问顶点出边数的 1 / ALPHA 且前沿在增长时切换为自底向上，
+ * 前沿顶点数少于 V / BETA 且前沿在缩小时切换回自顶向下。
+ * 自顶向下时前沿是顶点数组，自底向上时前沿是位图，每一层的工作用 ForkJoin 递归切分。
+ * <p>
+ * 有向图的自底向上需要反向邻接，在构造时建立反向的 CSR 图。
+ * 各顶点的层数是确定的，父顶点可能因线程调度而不同，但一定是上一层的邻接顶点。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class ParallelBfs extends GraphCompute {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    // 自顶向下每段至少处理的前沿顶点数
+    private static final int TOP_DOWN_GRAIN = 256;
+    // 自底向上每段至少处理的位图字数，每个字 64 个顶点
+    private static final int BOTTOM_UP_GRAIN = 16;
+
+    // 外部传入的线程池，为 null 时每次计算创建 parallelism 个线程的线程池
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    // 反向邻接，无向图就是图本身
+    private final Graph incoming;
+    // 所有顶点的出边数之和
+    private final long totalDegree;
+
+    public ParallelBfs(Graph graph, int parallelism) {
+        this(graph, null, parallelism);
+    }
+
+    public ParallelBfs(Graph graph, ForkJoinPool pool) {
+        this(graph, requirePool(pool), pool.getParallelism());
+    }
+
+    private static ForkJoinPool requirePool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("ForkJoinPool cannot be null");
+        }
+        return pool;
+    }
+
+    private ParallelBfs(Graph graph, ForkJoinPool pool, int parallelism) {
+        super(graph);
+        checkGraph();
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.incoming = graph.isDirected() ? CsrGraph.transpose(graph) : graph;
+        long degrees = 0;
+        for (int v = 0; v < graph.getVerticesNum(); v++) {
+            degrees += graph.degree(v);
+        }
+        this.totalDegree = degrees;
+    }
+
+    public Result compute(String source) {
+        Vertex sourceV = checkGraph().checkVertex(source, true);
+        if (this.pool != null) {
+            return this.compute(sourceV, this.pool);
+        }
+        ForkJoinPool ownPool = new ForkJoinPool(parallelism);
+        try {
+            return this.compute(sourceV, ownPool);
+        } finally {
+            ownPool.shutdown();
+        }
+    }
+
+    private Result compute(Vertex sourceV, ForkJoinPool pool) {
+        int verticesNum = this.graph.getVerticesNum();
+        int source = sourceV.id();
+        Result result = new Result(this.graph, sourceV);
+        AtomicLongArray visited = new AtomicLongArray(words(verticesNum));
+        visited.set(source >>> 6, 1L << source);
+        result.depth[source] = 0;
+        result.visitedNum = 1;
+
+        int[] frontier = {source};
+        long[] frontierBits = null;
+        int frontierSize = 1, previousSize = 0;
+        // 前沿顶点的出边数，未访问顶点的出边数
+        long frontierEdges = this.graph.degree(source);
+        long unexploredEdges = this.totalDegree - frontierEdges;
+        boolean bottomUp = false;
+        for (int level = 0; frontierSize > 0; level++) {
+            boolean growing = frontierSize > previousSize;
+            if (!bottomUp && growing && frontierEdges > unexploredEdges / ALPHA) {
+                bottomUp = true;
+                frontierBits = toBits(frontier, frontierSize, verticesNum);
+            } else if (bottomUp && !growing && frontierSize < verticesNum / BETA) {
+                bottomUp = false;
+                frontier = toArray(frontierBits, frontierSize);
+            }
+
+            Step step;
+            if (bottomUp) {
+                long[] nextBits = new long[frontierBits.length];
+                step = pool.invoke(new BottomUp(result, visited, frontierBits, nextBits, level, 0, frontierBits.length));
+                frontierBits = nextBits;
+                result.bottomUpSteps++;
+            } else {
+                step = pool.invoke(new TopDown(result, visited, frontier, level, 0, frontierSize));
+                frontier = step.vertices;
+                result.topDownSteps++;
+            }
+            previousSize = frontierSize;
+            frontierSize = step.count;
+            frontierEdges = step.edges;
+            unexploredEdges -= step.edges;
+            result.visitedNum += step.count;
+        }
+        return result;
+    }
+
+    private static int words(int verticesNum) {
+        return (verticesNum + 63) >>> 6;
+    }
+
+    private static long[] toBits(int[] frontier, int size, int verticesNum) {
+        long[] bits = new long[words(verticesNum)];
+        for (int i = 0; i < size; i++) {
+            bits[frontier[i] >>> 6] |= 1L << frontier[i];
+        }
+        return bits;
+    }
+
+    private static int[] toArray(long[] bits, int size) {
+        int[] vertices = new int[size];
+        int count = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                vertices[count++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return vertices;
+    }
+
+    // 一层的结果：新访问的顶点数和它们的出边数，自顶向下时还有新的前沿
+    private static final class Step {
+        // 自底向上的前沿在位图中，为 null
+        private int[] vertices;
+        private int count;
+        private long edges;
+
+        Step(boolean withVertices) {
+            this.vertices = withVertices ? new int[8] : null;
+        }
+
+        void add(int v, int degree) {
+            if (count == vertices.length) {
+                vertices = Arrays.copyOf(vertices, count + (count >> 1));
+            }
+            vertices[count++] = v;
+            edges += degree;
+        }
+
+        Step merge(Step other) {
+            if (this.vertices != null) {
+                if (this.count + other.count > this.vertices.length) {
+                    this.vertices = Arrays.copyOf(this.vertices, this.count + other.count);
+                }
+                System.arraycopy(other.vertices, 0, this.vertices, this.count, other.count);
+            }
+            this.count += other.count;
+            this.edges += other.edges;
+            return this;
+        }
+    }
+
+    // 自顶向下：处理 frontier[from, to)
+    @SuppressWarnings("serial")
+    private final class TopDown extends RecursiveTask<Step> {
+        private final Result result;
+        private final AtomicLongArray visited;
+        private final int[] frontier;
+        private final int level;
+        private final int from;
+        private final int to;
+
+        TopDown(Result result, AtomicLongArray visited, int[] frontier, int level, int from, int to) {
+            this.result = result;
+            this.visited = visited;
+            this.frontier = frontier;
+            this.level = level;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Step compute() {
+            if (to - from > TOP_DOWN_GRAIN) {
+                int mid = (from + to) >>> 1;
+                TopDown left = new TopDown(result, visited, frontier, level, from, mid);
+                left.fork();
+                Step right = new TopDown(result, visited, frontier, level, mid, to).compute();
+                return left.join().merge(right);
+            }
+            Step step = new Step(true);
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                graph.forEachAdjacent(u, (v, weight) -> {
+                    if (claim(visited, v)) {
+                        result.depth[v] = level + 1;
+                        result.parent[v] = u;
+                        step.add(v, graph.degree(v));
+                    }
+                });
+            }
+            return step;
+        }
+    }
+
+    // 用 CAS 把顶点标记为已访问，返回是否由当前线程标记
+    private static boolean claim(AtomicLongArray visited, int v) {
+        int w = v >>> 6;
+        long bit = 1L << v;
+        long word = visited.get(w);
+        while ((word & bit) == 0) {
+            if (visited.compareAndSet(w, word, word | bit)) {
+                return true;
+            }
+            word = visited.get(w);
+        }
+        return false;
+    }
+
+    // 自底向上：处理位图的第 [from, to) 个字，每个字只由一个线程处理，不需要 CAS
+    @SuppressWarnings("serial")
+    private final class BottomUp extends RecursiveTask<Step> {
+        private final Result result;
+        private final AtomicLongArray visited;
+        private final long[] frontierBits;
+        private final long[] nextBits;
+        private final int level;
+        private final int from;
+        private final int to;
+
+        BottomUp(Result result, AtomicLongArray visited, long[] frontierBits, long[] nextBits, int level, int from, int to) {
+            this.result = result;
+            this.visited = visited;
+            this.frontierBits = frontierBits;
+            this.nextBits = nextBits;
+            this.level = level;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Step compute() {
+            if (to - from > BOTTOM_UP_GRAIN) {
+                int mid = (from + to) >>> 1;
+                BottomUp left = new BottomUp(result, visited, frontierBits, nextBits, level, from, mid);
+                left.fork();
+                Step right = new BottomUp(result, visited, frontierBits, nextBits, level, mid, to).compute();
+                return left.join().merge(right);
+            }
+            Step step = new Step(false);
+            int verticesNum = graph.getVerticesNum();
+            long[] bits = this.frontierBits;
+            IntPredicate inFrontier = u -> (bits[u >>> 6] & (1L << u)) != 0;
+            for (int w = from; w < to; w++) {
+                long seen = visited.get(w);
+                if (seen == -1L) {
+                    continue;
+                }
+                long next = 0;
+                for (int v = w << 6, end = Math.min(verticesNum, v + 64); v < end; v++) {
+                    if ((seen & (1L << v)) != 0) {
+                        continue;
+                    }
+                    int u = incoming.findAdjacent(v, inFrontier);
+                    if (u >= 0) {
+                        result.depth[v] = level + 1;
+                        result.parent[v] = u;
+                        next |= 1L << v;
+                        step.count++;
+                        step.edges += graph.degree(v);
+                    }
+                }
+                if (next != 0) {
+                    nextBits[w] = next;
+                    visited.set(w, seen | next);
+                }
+            }
+            return step;
+        }
+    }
+
+    public static class Result {
+        private final Graph graph;
+        @Getter
+        private final Vertex source;
+        // 每个顶点到起点的层数，不可达为 -1
+        @Getter
+        private final int[] depth;
+        // 广度遍历树中的父顶点，起点和不可达的顶点为 -1
+        @Getter
+        private final int[] parent;
+        // 访问的顶点数
+        @Getter
+        private int visitedNum;
+        // 两种方式各执行的层数
+        @Getter
+        private int topDownSteps;
+        @Getter
+        private int bottomUpSteps;
+
+        Result(Graph graph, Vertex source) {
+            this.graph = graph;
+            this.source = source;
+            this.depth = new int[graph.getVerticesNum()];
+            this.parent = new int[graph.getVerticesNum()];
+            Arrays.fill(this.depth, -1);
+            Arrays.fill(this.parent, -1);
+        }
+
+        // 顶点到起点的层数，顶点不存在或不可达时返回 -1
+        public int getDepth(String vertex) {
+            int id = this.graph.vertexIndex().getId(vertex);
+            return id < 0 ? -1 : this.depth[id];
+        }
+    }
+
+}
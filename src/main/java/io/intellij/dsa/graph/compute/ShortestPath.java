@@ -0,0 +1,68 @@
+package io.intellij.dsa.graph.compute;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.Vertex;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ShortestPath
+ * <p>
+ * 点到点最短路径的查询结果，不可达时距离为正无穷，路径为空
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+@Getter
+public class ShortestPath {
+    private final Vertex source;
+    private final Vertex target;
+    private final double distance;
+    private final List<Edge> routes;
+
+    ShortestPath(Vertex source, Vertex target, double distance, List<Edge> routes) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+        this.routes = routes;
+    }
+
+    static ShortestPath unreachable(Vertex source, Vertex target) {
+        return new ShortestPath(source, target, Double.POSITIVE_INFINITY, List.of());
+    }
+
+    // 由顶点序列还原路径上的边
+    static ShortestPath of(Graph graph, double distance, int[] vertices, int length) {
+        Vertex source = graph.vertexIndex().getVertex(vertices[0]);
+        Vertex target = graph.vertexIndex().getVertex(vertices[length - 1]);
+        List<Edge> routes = new ArrayList<>(length - 1);
+        for (int i = 1; i < length; i++) {
+            Vertex fromV = graph.vertexIndex().getVertex(vertices[i - 1]);
+            Vertex toV = graph.vertexIndex().getVertex(vertices[i]);
+            routes.add(graph.getEdge(fromV.name(), toV.name()));
+        }
+        return new ShortestPath(source, target, distance, routes);
+    }
+
+    public boolean isReachable() {
+        return this.distance < Double.POSITIVE_INFINITY;
+    }
+
+    public void printRoutes() {
+        if (!isReachable()) {
+            System.out.printf("No route found: [%s] -> [%s]%n", source.name(), target.name());
+            return;
+        }
+        System.out.printf("Shortest Path: [%s] -> [%s]%n", source.name(), target.name());
+        System.out.println("Distance: " + distance + " = " +
+                routes.stream().map(Edge::getWeight).map(String::valueOf).collect(Collectors.joining(" + ")));
+        System.out.println("Route: " + routes.stream()
+                .map(edge -> String.format("[%s] --%.1f->", edge.getFrom().name(), edge.getWeight()))
+                .collect(Collectors.joining(" ")) + " [" + target.name() + "]");
+    }
+
+}
@@ -6,16 +6,44 @@ import io.intellij.dsa.graph.GraphCompute;
 import io.intellij.dsa.graph.Vertex;
 import lombok.Setter;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 /**
  * Traverse
+ * <p>
+ * 非递归的深度、广度遍历，深度遍历使用 int 数组实现的栈，广度遍历使用 int 数组实现的队列，
+ * 访问标记按 epoch 存放在每个线程复用的工作区中，遍历过程不创建对象、不输出。
+ * {@link Visitor} 返回 {@link Action} 控制遍历：继续、不再展开当前顶点、立即结束。
+ * 同一线程的工作区只有一份，Visitor 中不能再调用同一个 Traverse 的遍历。
  *
  * @author tech@intellij.io
  */
 public class Traverse extends GraphCompute {
+
+    public enum Action {
+        // 继续遍历
+        CONTINUE,
+        // 不再展开当前顶点的邻接顶点
+        PRUNE,
+        // 立即结束遍历
+        STOP,
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * 访问顶点
+         *
+         * @param vertex 顶点 id
+         * @param from   遍历树中的父顶点，起点为 -1
+         * @param weight 树边的权重，起点为 0
+         * @param depth  在遍历树中的深度，起点为 0
+         */
+        Action visit(int vertex, int from, double weight, int depth);
+    }
+
+    private final Workspaces<Workspace> workspaces = new Workspaces<>(Workspace::new, Workspace::capacity);
     @Setter
     private Consumer<Vertex> vertexConsumer;
 
@@ -50,21 +78,14 @@ public class Traverse extends GraphCompute {
         }
         initConsumer();
         System.out.println("\nDFS traversal starting from vertex: " + vertexName);
-        this.dfs(vertex, vertexConsumer, edgeConsumer, new boolean[this.graph.getVertices().size()]);
+        this.dfs(vertex, vertexConsumer, edgeConsumer);
         System.out.println("DFS traversal completed.\n");
     }
 
-    private void dfs(Vertex vertex, Consumer<Vertex> vc, Consumer<Edge> ec, boolean[] visited) {
-        visited[vertex.id()] = true;
-        vc.accept(vertex);
-        this.graph.adjacentEdges(vertex.id()).stream()
-                .filter(edge -> !visited[edge.getTo().id()])
-                .peek(ec)
-                .map(Edge::getTo)
-                .forEach(other -> dfs(other, vc, ec, visited));
+    private void dfs(Vertex vertex, Consumer<Vertex> vc, Consumer<Edge> ec) {
+        this.dfs(vertex.id(), this.consumerVisitor(vc, ec));
     }
 
-
     public void bfs(String vertexName) {
         Vertex vertex = checkVertex(vertexName, false);
         if (vertex == null) {
@@ -73,25 +94,197 @@ public class Traverse extends GraphCompute {
         }
         initConsumer();
         System.out.println("\nBFS traversal starting from vertex: " + vertexName);
-        this.bfs(vertex, this.vertexConsumer, this.edgeConsumer, new boolean[this.graph.getVertices().size()]);
+        this.bfs(vertex, this.vertexConsumer, this.edgeConsumer);
         System.out.println("BFS traversal completed.\n");
     }
 
-    private void bfs(Vertex vertex, Consumer<Vertex> vc, Consumer<Edge> ec, boolean[] visited) {
-        Queue<Vertex> queue = new LinkedList<>();
-        queue.add(vertex);
-
-        while (!queue.isEmpty()) {
-            Vertex poll = queue.poll();
-            visited[poll.id()] = true;
-            vc.accept(poll);
-            this.graph.adjacentEdges(poll.id()).stream()
-                    .filter(edge -> !visited[edge.getTo().id()])
-                    .peek(ec)
-                    .map(Edge::getTo)
-                    .forEach(queue::add);
+    private void bfs(Vertex vertex, Consumer<Vertex> vc, Consumer<Edge> ec) {
+        this.bfs(vertex.id(), this.consumerVisitor(vc, ec));
+    }
+
+    // 先把树边交给 ec，再把顶点交给 vc
+    private Visitor consumerVisitor(Consumer<Vertex> vc, Consumer<Edge> ec) {
+        return (vertex, from, weight, depth) -> {
+            Vertex v = this.graph.vertexIndex().getVertex(vertex);
+            if (from >= 0) {
+                ec.accept(new Edge(this.graph.vertexIndex().getVertex(from), v, weight));
+            }
+            vc.accept(v);
+            return Action.CONTINUE;
+        };
+    }
+
+    /*
+     * 深度遍历，访问顺序与递归实现相同：顶点出栈时才标记访问，
+     * 它的未访问邻接顶点按逆序入栈，保证先访问第一个邻接顶点。
+     * 一个顶点可能多次入栈，栈的大小不超过边数。
+     * 返回访问的顶点数。
+     */
+    public int dfs(int source, Visitor visitor) {
+        Workspace ws = this.start(source, visitor);
+        ws.push(source, -1, 0.0, 0);
+        int count = 0;
+        while (ws.size > 0) {
+            int top = --ws.size;
+            int u = ws.vertex[top];
+            if (ws.isVisited(u)) {
+                continue;
+            }
+            ws.visit(u);
+            count++;
+            int depth = ws.depth[top];
+            Action action = visitor.visit(u, ws.from[top], ws.weight[top], depth);
+            if (action == Action.STOP) {
+                break;
+            }
+            if (action == Action.PRUNE) {
+                continue;
+            }
+            int first = ws.size;
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (!ws.isVisited(v)) {
+                    ws.push(v, u, weight, depth + 1);
+                }
+            });
+            ws.reverse(first, ws.size);
+        }
+        ws.size = 0;
+        return count;
+    }
+
+    /*
+     * 广度遍历，顶点入队时就标记访问，每个顶点最多入队一次，队列的大小不超过顶点数。
+     * 返回访问的顶点数。
+     */
+    public int bfs(int source, Visitor visitor) {
+        Workspace ws = this.start(source, visitor);
+        int[] queue = ws.queue;
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+        ws.visit(source);
+        ws.parent[source] = -1;
+        ws.parentWeight[source] = 0.0;
+        ws.level[source] = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            Action action = visitor.visit(u, ws.parent[u], ws.parentWeight[u], ws.level[u]);
+            if (action == Action.STOP) {
+                break;
+            }
+            if (action == Action.PRUNE) {
+                continue;
+            }
+            int[] end = {tail};
+            this.graph.forEachAdjacent(u, (v, weight) -> {
+                if (!ws.isVisited(v)) {
+                    ws.visit(v);
+                    ws.parent[v] = u;
+                    ws.parentWeight[v] = weight;
+                    ws.level[v] = ws.level[u] + 1;
+                    queue[end[0]++] = v;
+                }
+            });
+            tail = end[0];
+        }
+        return head;
+    }
+
+    private Workspace start(int source, Visitor visitor) {
+        int verticesNum = this.graph.getVerticesNum();
+        if (source < 0 || source >= verticesNum) {
+            throw new IllegalArgumentException("Vertex index out of range: " + source);
+        }
+        if (visitor == null) {
+            throw new IllegalArgumentException("Visitor cannot be null");
+        }
+        Workspace ws = workspaces.get(verticesNum);
+        ws.reset();
+        return ws;
+    }
+
+    // 释放当前线程缓存的查询工作区
+    @Override
+    public void release() {
+        workspaces.release();
+    }
+
+    // 遍历的工作区，每个线程一份，访问标记按 epoch 失效，不需要清零
+    private static final class Workspace {
+        private final int[] visited;
+        private int epoch;
+
+        // 广度遍历的队列，以及每个顶点的父顶点、树边权重和层数
+        private final int[] queue;
+        private final int[] parent;
+        private final double[] parentWeight;
+        private final int[] level;
+
+        // 深度遍历的栈，按需扩容
+        private int[] vertex = new int[16];
+        private int[] from = new int[16];
+        private double[] weight = new double[16];
+        private int[] depth = new int[16];
+        private int size;
+
+        Workspace(int capacity) {
+            this.visited = new int[capacity];
+            this.queue = new int[capacity];
+            this.parent = new int[capacity];
+            this.parentWeight = new double[capacity];
+            this.level = new int[capacity];
+        }
+
+        int capacity() {
+            return this.visited.length;
         }
 
+        void reset() {
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(visited, 0);
+                epoch = 1;
+            }
+        }
+
+        boolean isVisited(int v) {
+            return visited[v] == epoch;
+        }
+
+        void visit(int v) {
+            visited[v] = epoch;
+        }
+
+        void push(int v, int u, double w, int d) {
+            if (size == vertex.length) {
+                int newLength = size + (size >> 1);
+                vertex = Arrays.copyOf(vertex, newLength);
+                from = Arrays.copyOf(from, newLength);
+                weight = Arrays.copyOf(weight, newLength);
+                depth = Arrays.copyOf(depth, newLength);
+            }
+            vertex[size] = v;
+            from[size] = u;
+            weight[size] = w;
+            depth[size] = d;
+            size++;
+        }
+
+        // 反转栈中 [start, end) 的元素
+        void reverse(int start, int end) {
+            for (int i = start, j = end - 1; i < j; i++, j--) {
+                int v = vertex[i];
+                vertex[i] = vertex[j];
+                vertex[j] = v;
+                int u = from[i];
+                from[i] = from[j];
+                from[j] = u;
+                double w = weight[i];
+                weight[i] = weight[j];
+                weight[j] = w;
+                int d = depth[i];
+                depth[i] = depth[j];
+                depth[j] = d;
+            }
+        }
     }
 
 }
@@ -0,0 +1,42 @@
+package io.intellij.dsa.graph.compute;
+
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Workspaces
+ * <p>
+ * 按线程缓存的查询工作区，同一个线程的查询反复复用一份，顶点数超过容量时重新分配。
+ * <p>
+ * 工作区在线程存活期间一直保留，线程池中的线程不再使用某个算法实例查询时，
+ * 由该线程调用 release 释放，否则工作区要等到实例被回收之后才会从线程中清理。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+final class Workspaces<T> {
+    private final ThreadLocal<T> local = new ThreadLocal<>();
+    private final IntFunction<T> factory;
+    private final ToIntFunction<T> capacity;
+
+    Workspaces(IntFunction<T> factory, ToIntFunction<T> capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    // 当前线程的工作区，容量至少为 verticesNum
+    T get(int verticesNum) {
+        T ws = local.get();
+        if (ws == null || capacity.applyAsInt(ws) < verticesNum) {
+            ws = factory.apply(verticesNum);
+            local.set(ws);
+        }
+        return ws;
+    }
+
+    // 释放当前线程的工作区
+    void release() {
+        local.remove();
+    }
+
+}
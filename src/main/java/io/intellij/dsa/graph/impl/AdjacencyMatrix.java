@@ -0,0 +1,42 @@
+package io.intellij.dsa.graph.impl;
+
+import io.intellij.dsa.graph.IntDoubleConsumer;
+
+import java.util.function.IntPredicate;
+
+/**
+ * AdjacencyMatrix 稠密图的邻接矩阵存储
+ * <p>
+ * 不存在的边统一用 {@link Double#NaN} 表示
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+interface AdjacencyMatrix {
+
+    // 矩阵的容量，即能容纳的顶点数
+    int capacity();
+
+    // 矩阵能容纳的最大顶点数
+    int maxCapacity();
+
+    // 扩展矩阵的容量，已有的边保持不变
+    void resize(int newCapacity);
+
+    boolean has(int from, int to);
+
+    // 边的权重，不存在时返回 NaN
+    double get(int from, int to);
+
+    void set(int from, int to, double weight);
+
+    // 顶点的出度
+    int degree(int from);
+
+    // 按目标顶点 id 升序遍历邻边
+    void forEachAdjacent(int from, IntDoubleConsumer action);
+
+    // 按目标顶点 id 升序查找第一个满足条件的邻接顶点，找到后立即结束，没有时返回 -1
+    int findAdjacent(int from, IntPredicate predicate);
+
+}
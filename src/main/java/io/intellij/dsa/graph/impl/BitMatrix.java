@@ -0,0 +1,118 @@
+package io.intellij.dsa.graph.impl;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.IntDoubleConsumer;
+
+import java.util.function.IntPredicate;
+
+/**
+ * BitMatrix 无权图的邻接矩阵
+ * <p>
+ * 每个单元只占 1 bit，每行按 64 位对齐为若干个 long。遍历邻边时逐个 long 处理，
+ * 整个字为 0 时直接跳过 64 个顶点。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+final class BitMatrix implements AdjacencyMatrix {
+    // 满足 capacity * ceil(capacity / 64) 不超过数组上限的最大容量
+    private static final int MAX_CAPACITY = 370_703;
+
+    private int capacity;
+    // 每行占用的 long 个数
+    private int wordsPerRow;
+    private long[] words;
+
+    BitMatrix(int capacity) {
+        this.capacity = 0;
+        this.wordsPerRow = 0;
+        this.words = new long[0];
+        this.resize(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public int maxCapacity() {
+        return MAX_CAPACITY;
+    }
+
+    @Override
+    public void resize(int newCapacity) {
+        if (newCapacity <= this.capacity) {
+            return;
+        }
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Dense matrix capacity exceeds " + MAX_CAPACITY);
+        }
+        int newWordsPerRow = (newCapacity + 63) >>> 6;
+        long[] newWords = new long[newCapacity * newWordsPerRow];
+        for (int i = 0; i < this.capacity; i++) {
+            System.arraycopy(this.words, i * this.wordsPerRow, newWords, i * newWordsPerRow, this.wordsPerRow);
+        }
+        this.words = newWords;
+        this.wordsPerRow = newWordsPerRow;
+        this.capacity = newCapacity;
+    }
+
+    @Override
+    public boolean has(int from, int to) {
+        return (this.words[from * this.wordsPerRow + (to >>> 6)] & (1L << to)) != 0;
+    }
+
+    @Override
+    public double get(int from, int to) {
+        return this.has(from, to) ? Graph.DEFAULT_UNWEIGHTED_VALUE : Double.NaN;
+    }
+
+    @Override
+    public void set(int from, int to, double weight) {
+        int index = from * this.wordsPerRow + (to >>> 6);
+        if (Double.isNaN(weight)) {
+            this.words[index] &= ~(1L << to);
+        } else {
+            this.words[index] |= 1L << to;
+        }
+    }
+
+    @Override
+    public int degree(int from) {
+        int degree = 0;
+        for (int i = from * this.wordsPerRow, end = i + this.wordsPerRow; i < end; i++) {
+            degree += Long.bitCount(this.words[i]);
+        }
+        return degree;
+    }
+
+    @Override
+    public void forEachAdjacent(int from, IntDoubleConsumer action) {
+        int base = from * this.wordsPerRow;
+        for (int w = 0; w < this.wordsPerRow; w++) {
+            long word = this.words[base + w];
+            while (word != 0) {
+                // 取最低位的 1
+                int to = (w << 6) + Long.numberOfTrailingZeros(word);
+                action.accept(to, Graph.DEFAULT_UNWEIGHTED_VALUE);
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public int findAdjacent(int from, IntPredicate predicate) {
+        int base = from * this.wordsPerRow;
+        for (int w = 0; w < this.wordsPerRow; w++) {
+            for (long word = this.words[base + w]; word != 0; word &= word - 1) {
+                int to = (w << 6) + Long.numberOfTrailingZeros(word);
+                if (predicate.test(to)) {
+                    return to;
+                }
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,367 @@
+package io.intellij.dsa.graph.impl;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.EdgeBatch;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.IntDoubleConsumer;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.VertexIndex;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * CsrGraph 压缩稀疏行图
+ * <p>
+ * 只读的邻接表，所有顶点的邻边按顶点 id 依次存放在 targets / weights 中，
+ * 顶点 i 的邻边区间为 [offsets[i], offsets[i + 1])，区间内按目标顶点 id 升序排列。
+ * <p>
+ * 每条边只占用 int + double 共 12 字节，无权图不保存 weights，只占 4 字节。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class CsrGraph implements Graph {
+    private final VertexIndex vertexIndex;
+    private final boolean directed;
+    private final boolean weighted;
+
+    // 顶点 i 的邻边区间 [offsets[i], offsets[i + 1])
+    private final int[] offsets;
+    // 邻边的目标顶点
+    private final int[] targets;
+    // 邻边的权重，无权图为 null
+    private final double[] weights;
+
+    CsrGraph(VertexIndex vertexIndex, boolean directed, boolean weighted,
+             int[] offsets, int[] targets, double[] weights) {
+        if (offsets.length != vertexIndex.size() + 1) {
+            throw new IllegalArgumentException("offsets length must be vertices num + 1");
+        }
+        if (weights != null && weights.length != targets.length) {
+            throw new IllegalArgumentException("weights length must be equal to targets length");
+        }
+        this.vertexIndex = vertexIndex;
+        this.directed = directed;
+        this.weighted = weighted;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    // 由现成的 CSR 数组构建，weights 为 null 表示无权图，每一行的目标顶点必须严格升序
+    public static CsrGraph of(VertexIndex vertexIndex, boolean directed, boolean weighted,
+                              int[] offsets, int[] targets, double[] weights) {
+        if (offsets.length != vertexIndex.size() + 1 || offsets[0] != 0 || offsets[offsets.length - 1] != targets.length) {
+            throw new IllegalArgumentException("Invalid offsets");
+        }
+        if (weighted != (weights != null)) {
+            throw new IllegalArgumentException("Weights must be present only for weighted graph");
+        }
+        int verticesNum = vertexIndex.size();
+        for (int v = 0; v < verticesNum; v++) {
+            if (offsets[v] > offsets[v + 1]) {
+                throw new IllegalArgumentException("Invalid offsets");
+            }
+            for (int pos = offsets[v]; pos < offsets[v + 1]; pos++) {
+                int target = targets[pos];
+                if (target < 0 || target >= verticesNum || (pos > offsets[v] && targets[pos - 1] >= target)) {
+                    throw new IllegalArgumentException("Invalid targets of vertex " + v);
+                }
+            }
+        }
+        return new CsrGraph(vertexIndex, directed, weighted, offsets, targets, weights);
+    }
+
+    // 冻结一张图，生成只读的 CSR 图
+    public static CsrGraph of(Graph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null");
+        }
+        if (graph instanceof CsrGraph csr) {
+            return csr;
+        }
+        VertexIndex vertexIndex = new VertexIndex();
+        graph.getVertices().forEach(vertex -> vertexIndex.createVertex(vertex.name()));
+
+        int verticesNum = vertexIndex.size();
+        // 第一遍统计每个顶点的出度
+        int[] offsets = new int[verticesNum + 1];
+        for (int i = 0; i < verticesNum; i++) {
+            offsets[i + 1] = offsets[i] + graph.degree(i);
+        }
+
+        // 第二遍填充
+        int[] targets = new int[offsets[verticesNum]];
+        double[] weights = graph.isWeighted() ? new double[targets.length] : null;
+        int[] cursor = new int[1];
+        for (int i = 0; i < verticesNum; i++) {
+            cursor[0] = offsets[i];
+            graph.forEachAdjacent(i, (to, weight) -> {
+                targets[cursor[0]] = to;
+                if (weights != null) {
+                    weights[cursor[0]] = weight;
+                }
+                cursor[0]++;
+            });
+            // 两种实现的邻边都已按 id 有序，这里兜底保证 getEdge 可以二分查找
+            sortRow(targets, weights, offsets[i], cursor[0]);
+        }
+        return new CsrGraph(vertexIndex, graph.isDirected(), graph.isWeighted(), offsets, targets, weights);
+    }
+
+    // 由一批边直接构建 CSR 图，重复的边以最后一次为准，与逐条 connect 的结果一致
+    public static CsrGraph of(VertexIndex vertexIndex, boolean directed, boolean weighted, EdgeBatch edges) {
+        int verticesNum = vertexIndex.size();
+        if (edges.maxVertexId() >= verticesNum) {
+            throw new IllegalArgumentException("Vertex id not found in graph");
+        }
+
+        // 按起点计数排序，无向图每条边对应两个邻接项
+        int entries = directed ? edges.size() : edges.size() * 2;
+        int[] rowStart = new int[verticesNum + 1];
+        for (int i = 0; i < edges.size(); i++) {
+            rowStart[edges.from(i) + 1]++;
+            if (!directed) {
+                rowStart[edges.to(i) + 1]++;
+            }
+        }
+        for (int v = 0; v < verticesNum; v++) {
+            rowStart[v + 1] += rowStart[v];
+        }
+        int[] rowTargets = new int[entries];
+        double[] rowWeights = weighted ? new double[entries] : null;
+        int[] cursor = new int[verticesNum];
+        System.arraycopy(rowStart, 0, cursor, 0, verticesNum);
+        for (int i = 0; i < edges.size(); i++) {
+            int from = edges.from(i), to = edges.to(i);
+            int pos = cursor[from]++;
+            rowTargets[pos] = to;
+            if (weighted) {
+                rowWeights[pos] = edges.weight(i);
+            }
+            if (!directed) {
+                pos = cursor[to]++;
+                rowTargets[pos] = from;
+                if (weighted) {
+                    rowWeights[pos] = edges.weight(i);
+                }
+            }
+        }
+
+        // 行内按 (目标顶点, 输入顺序) 排序后去重，保留最后出现的边
+        int[] offsets = new int[verticesNum + 1];
+        long[] keys = new long[entries];
+        int size = 0;
+        for (int v = 0; v < verticesNum; v++) {
+            int start = rowStart[v], end = rowStart[v + 1];
+            for (int pos = start; pos < end; pos++) {
+                keys[pos] = ((long) rowTargets[pos] << 32) | (pos - start);
+            }
+            Arrays.sort(keys, start, end);
+            for (int k = start; k < end; k++) {
+                int target = (int) (keys[k] >>> 32);
+                if (k + 1 < end && (int) (keys[k + 1] >>> 32) == target) {
+                    continue;
+                }
+                keys[size++] = ((long) target << 32) | (start + (keys[k] & 0xFFFFFFFFL));
+            }
+            offsets[v + 1] = size;
+        }
+
+        int[] targets = new int[size];
+        double[] weights = weighted ? new double[size] : null;
+        for (int k = 0; k < size; k++) {
+            targets[k] = (int) (keys[k] >>> 32);
+            if (weighted) {
+                weights[k] = rowWeights[(int) (keys[k] & 0xFFFFFFFFL)];
+            }
+        }
+        return new CsrGraph(vertexIndex, directed, weighted, offsets, targets, weights);
+    }
+
+    // 有向图的反向图，与原图共用顶点索引；无向图的反向图就是 CSR 形式的自身
+    public static CsrGraph transpose(Graph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null");
+        }
+        if (!graph.isDirected()) {
+            return of(graph);
+        }
+        int verticesNum = graph.getVerticesNum();
+        EdgeBatch reversed = new EdgeBatch(graph.getEdgesNum());
+        for (int v = 0; v < verticesNum; v++) {
+            int from = v;
+            graph.forEachAdjacent(v, (to, weight) -> reversed.add(to, from, weight));
+        }
+        return of(graph.vertexIndex(), true, graph.isWeighted(), reversed);
+    }
+
+    // 按目标顶点 id 对一行排序
+    private static void sortRow(int[] targets, double[] weights, int from, int to) {
+        boolean sorted = true;
+        for (int i = from + 1; i < to; i++) {
+            if (targets[i - 1] > targets[i]) {
+                sorted = false;
+                break;
+            }
+        }
+        if (sorted) {
+            return;
+        }
+        if (weights == null) {
+            Arrays.sort(targets, from, to);
+            return;
+        }
+        // 插入排序，单行的邻边一般不多
+        for (int i = from + 1; i < to; i++) {
+            int t = targets[i];
+            double w = weights[i];
+            int j = i - 1;
+            while (j >= from && targets[j] > t) {
+                targets[j + 1] = targets[j];
+                weights[j + 1] = weights[j];
+                j--;
+            }
+            targets[j + 1] = t;
+            weights[j + 1] = w;
+        }
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    @Override
+    public boolean isWeighted() {
+        return this.weighted;
+    }
+
+    @Override
+    public int getVerticesNum() {
+        return vertexIndex.size();
+    }
+
+    @Override
+    public int getEdgesNum() {
+        return targets.length;
+    }
+
+    @Override
+    public List<Vertex> getVertices() {
+        return vertexIndex.getVertices();
+    }
+
+    @Override
+    public Edge getEdge(String from, String to) {
+        if (StringUtils.isBlank(from) || StringUtils.isBlank(to)) {
+            return null;
+        }
+        if (from.equals(to)) {
+            return null;
+        }
+        Vertex fromV = vertexIndex.getVertex(from);
+        Vertex toV = vertexIndex.getVertex(to);
+        if (fromV == null || toV == null) {
+            return null;
+        }
+        int pos = Arrays.binarySearch(targets, offsets[fromV.id()], offsets[fromV.id() + 1], toV.id());
+        return pos < 0 ? null : new Edge(fromV, toV, weightAt(pos));
+    }
+
+    @Override
+    public void connect(String from, String to, double weight) {
+        throw new UnsupportedOperationException("CsrGraph is read-only");
+    }
+
+    @Override
+    public List<Edge> adjacentEdges(String name) {
+        Vertex vertex = vertexIndex.getVertex(name);
+        return vertex == null ? null : adjacentEdges(vertex.id());
+    }
+
+    @Override
+    public List<Edge> adjacentEdges(int index) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return null;
+        }
+        int start = offsets[index], end = offsets[index + 1];
+        if (start == end) {
+            return List.of();
+        }
+        Vertex source = vertexIndex.getVertex(index);
+        List<Edge> edges = new ArrayList<>(end - start);
+        for (int pos = start; pos < end; pos++) {
+            edges.add(new Edge(source, vertexIndex.getVertex(targets[pos]), weightAt(pos)));
+        }
+        return edges;
+    }
+
+    @Override
+    public int degree(int index) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return 0;
+        }
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public void forEachAdjacent(int index, IntDoubleConsumer action) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return;
+        }
+        for (int pos = offsets[index], end = offsets[index + 1]; pos < end; pos++) {
+            action.accept(targets[pos], weightAt(pos));
+        }
+    }
+
+    @Override
+    public int findAdjacent(int index, IntPredicate predicate) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return -1;
+        }
+        for (int pos = offsets[index], end = offsets[index + 1]; pos < end; pos++) {
+            if (predicate.test(targets[pos])) {
+                return targets[pos];
+            }
+        }
+        return -1;
+    }
+
+    private double weightAt(int pos) {
+        return weights == null ? DEFAULT_UNWEIGHTED_VALUE : weights[pos];
+    }
+
+    @Override
+    public void showGraph() {
+        System.out.println("Graph: " + (directed ? "Directed" : "Undirected") + ", " + (weighted ? "Weighted" : "Unweighted"));
+        System.out.println("Vertices: " + vertexIndex.size());
+        System.out.println("Edges: " + targets.length);
+
+        System.out.println("Compressed Sparse Row:");
+        String startFmt = "%s(%d) : ";
+        String toFmt = "%s(%d) -- %.2f -> %s(%d)   ";
+        for (int fromId = 0; fromId < vertexIndex.size(); fromId++) {
+            Vertex fromV = vertexIndex.getVertex(fromId);
+            System.out.printf(startFmt, fromV.name(), fromId);
+            for (int pos = offsets[fromId]; pos < offsets[fromId + 1]; pos++) {
+                Vertex toV = vertexIndex.getVertex(targets[pos]);
+                System.out.printf(toFmt,
+                        fromV.name(), fromId,
+                        weightAt(pos),
+                        toV.name(), toV.id());
+            }
+            System.out.println();
+        }
+    }
+
+    @Override
+    public VertexIndex vertexIndex() {
+        return this.vertexIndex;
+    }
+
+}
@@ -2,7 +2,9 @@ package io.intellij.dsa.graph.impl;
 
 import io.intellij.dsa.DSAUtils;
 import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.EdgeBatch;
 import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.IntDoubleConsumer;
 import io.intellij.dsa.graph.Vertex;
 import io.intellij.dsa.graph.VertexIndex;
 import lombok.extern.slf4j.Slf4j;
@@ -10,11 +12,14 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 /**
  * DenseGraph 稠密图
  * <p>
  * 稠密图是指边数接近于顶点数的平方的图，通常用邻接矩阵表示。
+ * <p>
+ * 加权图使用一维 double[] 存储矩阵，NaN 表示没有边；无权图使用 long[] 位图，每条边只占 1 bit。
  *
  * @author tech@intellij.io
  * @since 2025-05-19
@@ -26,15 +31,24 @@ public class DenseGraph implements Graph {
     private final boolean weighted;
 
     // 邻接矩阵
-    private Double[][] adjacencyMatrix;
+    private final AdjacencyMatrix adjacencyMatrix;
 
     private int edgesCount;
 
     public DenseGraph(boolean directed, boolean weighted) {
+        // 一张图理论上最少2个点
+        this(directed, weighted, 2);
+    }
+
+    // 预估顶点数，避免构建过程中反复扩容
+    public DenseGraph(boolean directed, boolean weighted, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
         this.directed = directed;
         this.weighted = weighted;
-        // 初始化邻接矩阵，后续会根据顶点数动态调整大小，一张图理论上最少2个点
-        this.adjacencyMatrix = new Double[2][2];
+        // 初始化邻接矩阵，后续会根据顶点数按倍数扩容
+        this.adjacencyMatrix = weighted ? new DoubleMatrix(initialCapacity) : new BitMatrix(initialCapacity);
         this.edgesCount = 0;
     }
 
@@ -77,15 +91,15 @@ public class DenseGraph implements Graph {
         if (fromV == null || toV == null) {
             return null;
         }
-        Double weight = this.adjacencyMatrix[fromV.id()][toV.id()];
-        if (weight == null) {
+        double weight = this.adjacencyMatrix.get(fromV.id(), toV.id());
+        if (Double.isNaN(weight)) {
             return null;
         }
-        return new Edge(fromV, toV, this.adjacencyMatrix[fromV.id()][toV.id()]);
+        return new Edge(fromV, toV, weight);
     }
 
     @Override
-    public void connect(String from, String to, double weight) {
+    public void checkEdge(String from, String to) {
         if (StringUtils.isBlank(from) || StringUtils.isBlank(to)) {
             throw new IllegalArgumentException("vertex name is null or empty");
         }
@@ -93,6 +107,11 @@ public class DenseGraph implements Graph {
             // 自环边
             throw new IllegalArgumentException("vertex name is same");
         }
+    }
+
+    @Override
+    public void connect(String from, String to, double weight) {
+        this.checkEdge(from, to);
         Vertex fromV = vertexIndex.createVertex(from);
         Vertex toV = vertexIndex.createVertex(to);
         this.doConnect(fromV, toV, weight, directed);
@@ -100,16 +119,16 @@ public class DenseGraph implements Graph {
 
     private void doConnect(Vertex from, Vertex to, double weight, boolean directed) {
         int size = vertexIndex.size();
-        if (size > adjacencyMatrix.length) {
-            expand(size);
+        if (size > adjacencyMatrix.capacity()) {
+            this.grow(size);
         }
         if (weighted) {
-            if (this.adjacencyMatrix[from.id()][to.id()] != null) {
+            if (this.adjacencyMatrix.has(from.id(), to.id())) {
                 log.info("reset edge's weight: {} -> {} = {}", from, to, weight);
             }
-            this.adjacencyMatrix[from.id()][to.id()] = weight;
+            this.adjacencyMatrix.set(from.id(), to.id(), weight);
         } else {
-            this.adjacencyMatrix[from.id()][to.id()] = DEFAULT_UNWEIGHTED_VALUE;
+            this.adjacencyMatrix.set(from.id(), to.id(), DEFAULT_UNWEIGHTED_VALUE);
         }
         this.edgesCount++;
         if (!directed) {
@@ -118,13 +137,56 @@ public class DenseGraph implements Graph {
         }
     }
 
-    // 扩展邻接矩阵
-    private void expand(int newSize) {
-        Double[][] newMatrix = new Double[newSize][newSize];
-        for (int i = 0; i < adjacencyMatrix.length; i++) {
-            System.arraycopy(adjacencyMatrix[i], 0, newMatrix[i], 0, adjacencyMatrix[i].length);
+    // 批量连接：按最终顶点数一次性分配矩阵，再直接写入各个单元
+    @Override
+    public void connectAll(EdgeBatch edges) {
+        int verticesNum = vertexIndex.size();
+        // 调用方已经在顶点索引中创建了顶点，先扩容矩阵，校验失败时索引和矩阵仍然一致；
+        // 分批加载时每批都可能有新顶点，按 1.5 倍扩容避免每批都拷贝整个矩阵
+        if (verticesNum > adjacencyMatrix.capacity()) {
+            this.grow(verticesNum);
         }
-        this.adjacencyMatrix = newMatrix;
+        for (int i = 0; i < edges.size(); i++) {
+            if (edges.from(i) >= verticesNum || edges.to(i) >= verticesNum) {
+                throw new IllegalArgumentException("Vertex id not found in graph");
+            }
+            if (edges.from(i) == edges.to(i)) {
+                // 自环边
+                throw new IllegalArgumentException("vertex name is same");
+            }
+        }
+        int reset = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            int from = edges.from(i), to = edges.to(i);
+            double weight = weighted ? edges.weight(i) : DEFAULT_UNWEIGHTED_VALUE;
+            if (weighted && adjacencyMatrix.has(from, to)) {
+                reset++;
+            }
+            adjacencyMatrix.set(from, to, weight);
+            if (!directed) {
+                adjacencyMatrix.set(to, from, weight);
+            }
+        }
+        if (reset > 0) {
+            log.info("reset {} edges' weight in batch", reset);
+        }
+        this.edgesCount += directed ? edges.size() : edges.size() * 2;
+    }
+
+    // 确保矩阵至少能容纳 vertices 个顶点，批量构建前调用可以只分配一次
+    public void ensureCapacity(int vertices) {
+        if (vertices > adjacencyMatrix.capacity()) {
+            adjacencyMatrix.resize(vertices);
+        }
+    }
+
+    // 按 1.5 倍扩容，构建 n 个顶点的总拷贝量摊还为 O(n^2)
+    private void grow(int minCapacity) {
+        int oldCapacity = adjacencyMatrix.capacity();
+        int newCapacity = Math.max(minCapacity, oldCapacity + (oldCapacity >> 1));
+        newCapacity = Math.max(minCapacity, Math.min(newCapacity, adjacencyMatrix.maxCapacity()));
+        log.debug("expand adjacency matrix from {} to {}", oldCapacity, newCapacity);
+        adjacencyMatrix.resize(newCapacity);
     }
 
     @Override
@@ -140,15 +202,34 @@ public class DenseGraph implements Graph {
         }
         Vertex source = vertexIndex.getVertex(index);
         List<Edge> edges = new ArrayList<>();
-        Double[] toArr = adjacencyMatrix[index];
-        for (int i = 0; i < toArr.length; i++) {
-            if (toArr[i] != null) {
-                edges.add(new Edge(source, vertexIndex.getVertex(i), toArr[i]));
-            }
-        }
+        adjacencyMatrix.forEachAdjacent(index, (to, weight) -> edges.add(new Edge(source, vertexIndex.getVertex(to), weight)));
         return edges;
     }
 
+    @Override
+    public int degree(int index) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return 0;
+        }
+        return adjacencyMatrix.degree(index);
+    }
+
+    @Override
+    public void forEachAdjacent(int index, IntDoubleConsumer action) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return;
+        }
+        adjacencyMatrix.forEachAdjacent(index, action);
+    }
+
+    @Override
+    public int findAdjacent(int index, IntPredicate predicate) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return -1;
+        }
+        return adjacencyMatrix.findAdjacent(index, predicate);
+    }
+
     @Override
     public void showGraph() {
         System.out.println("Graph: " + (directed ? "Directed" : "Undirected") + ", " + (weighted ? "Weighted" : "Unweighted"));
@@ -178,8 +259,8 @@ public class DenseGraph implements Graph {
             System.out.print(DSAUtils.beautify(v.id() + ":" + v.name(), width));
 
             for (int j = 0; j < vertexIndex.size(); j++) {
-                Double element = (i < adjacencyMatrix.length && j < adjacencyMatrix[i].length) ? adjacencyMatrix[i][j] : null;
-                if (element != null) {
+                double element = (i < adjacencyMatrix.capacity() && j < adjacencyMatrix.capacity()) ? adjacencyMatrix.get(i, j) : Double.NaN;
+                if (!Double.isNaN(element)) {
                     System.out.print(DSAUtils.beautify("" + element, width));
                 } else {
                     System.out.print(DSAUtils.beautify("nil", width));
@@ -194,9 +275,16 @@ public class DenseGraph implements Graph {
         return this.vertexIndex;
     }
 
+    // 按需生成装箱的矩阵副本，null 表示没有边
     @Override
     public Double[][] getAdjacencyMatrix() {
-        return this.adjacencyMatrix;
+        int size = vertexIndex.size();
+        Double[][] matrix = new Double[size][size];
+        for (int i = 0; i < size; i++) {
+            Double[] row = matrix[i];
+            adjacencyMatrix.forEachAdjacent(i, (to, weight) -> row[to] = weight);
+        }
+        return matrix;
     }
 
 }
@@ -0,0 +1,104 @@
+package io.intellij.dsa.graph.impl;
+
+import io.intellij.dsa.graph.IntDoubleConsumer;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * DoubleMatrix 加权图的邻接矩阵
+ * <p>
+ * 按行展开为一维 double[]，NaN 表示没有边，每个单元固定 8 字节，没有装箱和空引用
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+final class DoubleMatrix implements AdjacencyMatrix {
+    // 一维数组能容纳的最大维度
+    private static final int MAX_CAPACITY = (int) Math.sqrt(Integer.MAX_VALUE - 8);
+
+    private int capacity;
+    private double[] data;
+
+    DoubleMatrix(int capacity) {
+        this.capacity = 0;
+        this.data = new double[0];
+        this.resize(capacity);
+    }
+
+    @Override
+    public int capacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public int maxCapacity() {
+        return MAX_CAPACITY;
+    }
+
+    @Override
+    public void resize(int newCapacity) {
+        if (newCapacity <= this.capacity) {
+            return;
+        }
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Dense matrix capacity exceeds " + MAX_CAPACITY);
+        }
+        double[] newData = new double[newCapacity * newCapacity];
+        Arrays.fill(newData, Double.NaN);
+        for (int i = 0; i < this.capacity; i++) {
+            System.arraycopy(this.data, i * this.capacity, newData, i * newCapacity, this.capacity);
+        }
+        this.data = newData;
+        this.capacity = newCapacity;
+    }
+
+    @Override
+    public boolean has(int from, int to) {
+        return !Double.isNaN(this.get(from, to));
+    }
+
+    @Override
+    public double get(int from, int to) {
+        return this.data[from * this.capacity + to];
+    }
+
+    @Override
+    public void set(int from, int to, double weight) {
+        this.data[from * this.capacity + to] = weight;
+    }
+
+    @Override
+    public int degree(int from) {
+        int degree = 0;
+        for (int i = from * this.capacity, end = i + this.capacity; i < end; i++) {
+            if (!Double.isNaN(this.data[i])) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    @Override
+    public void forEachAdjacent(int from, IntDoubleConsumer action) {
+        int base = from * this.capacity;
+        for (int to = 0; to < this.capacity; to++) {
+            double weight = this.data[base + to];
+            if (!Double.isNaN(weight)) {
+                action.accept(to, weight);
+            }
+        }
+    }
+
+    @Override
+    public int findAdjacent(int from, IntPredicate predicate) {
+        int base = from * this.capacity;
+        for (int to = 0; to < this.capacity; to++) {
+            if (!Double.isNaN(this.data[base + to]) && predicate.test(to)) {
+                return to;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -1,7 +1,9 @@
 package io.intellij.dsa.graph.impl;
 
 import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.EdgeBatch;
 import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.IntDoubleConsumer;
 import io.intellij.dsa.graph.Vertex;
 import io.intellij.dsa.graph.VertexIndex;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.IntPredicate;
 
 /**
  * SparseGraph 稀疏图
@@ -85,10 +88,7 @@ public class SparseGraph implements Graph {
 
     @Override
     public void connect(String from, String to, double weight) {
-        if (from == null || to == null) {
-            throw new IllegalArgumentException("Vertex names cannot be null");
-        }
-
+        this.checkEdge(from, to);
         Vertex fromV = vertexIndex.createVertex(from);
         Vertex toV = vertexIndex.createVertex(to);
         this.doConnect(fromV, toV, weight, directed);
@@ -99,7 +99,8 @@ public class SparseGraph implements Graph {
         int fromId = from.id();
         int toId = to.id();
 
-        if (fromId + 1 > adjacencyList.size()) {
+        // 只作为终点出现过的顶点也需要占位，保证 adjacencyList 与 vertexIndex 对齐
+        while (adjacencyList.size() < vertexIndex.size()) {
             adjacencyList.add(new TreeMap<>());
         }
         Map<Integer, Double> fromMap = adjacencyList.get(fromId);
@@ -118,6 +119,67 @@ public class SparseGraph implements Graph {
         }
     }
 
+    // 批量连接：先按起点对所有邻接项做计数排序，再逐行写入，每个顶点的邻接表只访问一次
+    @Override
+    public void connectAll(EdgeBatch edges) {
+        int verticesNum = vertexIndex.size();
+        if (edges.maxVertexId() >= verticesNum) {
+            throw new IllegalArgumentException("Vertex id not found in graph");
+        }
+        if (adjacencyList instanceof ArrayList<Map<Integer, Double>> list) {
+            list.ensureCapacity(verticesNum);
+        }
+        while (adjacencyList.size() < verticesNum) {
+            adjacencyList.add(new TreeMap<>());
+        }
+
+        // 无向图每条边对应两个邻接项
+        int entries = directed ? edges.size() : edges.size() * 2;
+        int[] rowStart = new int[verticesNum + 1];
+        for (int i = 0; i < edges.size(); i++) {
+            rowStart[edges.from(i) + 1]++;
+            if (!directed) {
+                rowStart[edges.to(i) + 1]++;
+            }
+        }
+        for (int v = 0; v < verticesNum; v++) {
+            rowStart[v + 1] += rowStart[v];
+        }
+
+        // 计数排序是稳定的，同一行内保持输入顺序，重复的边以最后一次为准
+        int[] targets = new int[entries];
+        double[] weights = new double[entries];
+        int[] cursor = new int[verticesNum];
+        System.arraycopy(rowStart, 0, cursor, 0, verticesNum);
+        for (int i = 0; i < edges.size(); i++) {
+            int from = edges.from(i), to = edges.to(i);
+            double weight = weighted ? edges.weight(i) : DEFAULT_UNWEIGHTED_VALUE;
+            targets[cursor[from]] = to;
+            weights[cursor[from]++] = weight;
+            if (!directed) {
+                targets[cursor[to]] = from;
+                weights[cursor[to]++] = weight;
+            }
+        }
+
+        int reset = 0;
+        for (int v = 0; v < verticesNum; v++) {
+            if (rowStart[v] == rowStart[v + 1]) {
+                continue;
+            }
+            Map<Integer, Double> row = adjacencyList.get(v);
+            for (int pos = rowStart[v]; pos < rowStart[v + 1]; pos++) {
+                if (row.put(targets[pos], weights[pos]) != null) {
+                    reset++;
+                }
+            }
+        }
+        if (weighted && reset > 0) {
+            log.info("reset {} edges' weight in batch", reset);
+        }
+        this.edgesCount += entries;
+    }
+
     @Override
     public List<Edge> adjacentEdges(String name) {
         Vertex vertex = vertexIndex.getVertex(name);
@@ -129,6 +191,9 @@ public class SparseGraph implements Graph {
         if (index < 0 || index >= vertexIndex.size()) {
             return null;
         }
+        if (index >= adjacencyList.size()) {
+            return List.of();
+        }
         Map<Integer, Double> toWeightMap = adjacencyList.get(index);
         if (null == toWeightMap || toWeightMap.isEmpty()) {
             return List.of();
@@ -144,6 +209,37 @@ public class SparseGraph implements Graph {
         return edges;
     }
 
+    @Override
+    public int degree(int index) {
+        if (index < 0 || index >= adjacencyList.size()) {
+            return 0;
+        }
+        return adjacencyList.get(index).size();
+    }
+
+    @Override
+    public void forEachAdjacent(int index, IntDoubleConsumer action) {
+        if (index < 0 || index >= adjacencyList.size()) {
+            return;
+        }
+        for (Map.Entry<Integer, Double> entry : adjacencyList.get(index).entrySet()) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public int findAdjacent(int index, IntPredicate predicate) {
+        if (index < 0 || index >= adjacencyList.size()) {
+            return -1;
+        }
+        for (int to : adjacencyList.get(index).keySet()) {
+            if (predicate.test(to)) {
+                return to;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public void showGraph() {
         System.out.println("Graph: " + (directed ? "Directed" : "Undirected") + ", " + (weighted ? "Weighted" : "Unweighted"));
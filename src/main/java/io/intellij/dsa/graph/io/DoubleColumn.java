@@ -0,0 +1,62 @@
+package io.intellij.dsa.graph.io;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+
+import static io.intellij.dsa.graph.io.IntColumn.CHUNK_MASK;
+import static io.intellij.dsa.graph.io.IntColumn.CHUNK_SHIFT;
+import static io.intellij.dsa.graph.io.IntColumn.chunksOf;
+
+/**
+ * DoubleColumn 只读的 double 数组
+ * <p>
+ * 与 {@link IntColumn} 相同，数据在堆上的数组或内存映射的文件段中，按 2^27 个元素分片，单个映射不超过 1GB。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public final class DoubleColumn {
+    private final DoubleBuffer[] chunks;
+    private final int length;
+
+    private DoubleColumn(DoubleBuffer[] chunks, int length) {
+        this.chunks = chunks;
+        this.length = length;
+    }
+
+    public static DoubleColumn of(double[] values) {
+        DoubleBuffer[] chunks = new DoubleBuffer[chunksOf(values.length)];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c << CHUNK_SHIFT;
+            chunks[c] = DoubleBuffer.wrap(values, from, Math.min(1 << CHUNK_SHIFT, values.length - from)).slice();
+        }
+        return new DoubleColumn(chunks, values.length);
+    }
+
+    // 映射文件中从 position 开始的 count 个 double
+    public static DoubleColumn map(FileChannel channel, long position, long count) throws IOException {
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Column too large: " + count);
+        }
+        DoubleBuffer[] chunks = new DoubleBuffer[chunksOf(count)];
+        for (int c = 0; c < chunks.length; c++) {
+            long from = (long) c << CHUNK_SHIFT;
+            long size = Math.min(1L << CHUNK_SHIFT, count - from);
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, position + from * Double.BYTES, size * Double.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asDoubleBuffer();
+        }
+        return new DoubleColumn(chunks, (int) count);
+    }
+
+    public double get(int index) {
+        return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    public int length() {
+        return this.length;
+    }
+
+}
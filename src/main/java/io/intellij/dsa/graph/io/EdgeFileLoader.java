@@ -0,0 +1,112 @@
+package io.intellij.dsa.graph.io;
+
+import io.intellij.dsa.graph.EdgeBatch;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.VertexIndex;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * EdgeFileLoader
+ * <p>
+ * 流式加载边列表文件：按窗口内存映射文件，直接在字节上解析每一行，
+ * 解析出的边以顶点 id 的形式攒成批次，通过 {@link Graph#connectAll(EdgeBatch)} 写入图中。
+ * 整个过程不会把文件内容读成 String，堆上只保留当前批次和顶点名称表。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+@Slf4j
+public class EdgeFileLoader {
+    // 每次映射的窗口大小
+    static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+    // 每批写入图的边数
+    static final int DEFAULT_BATCH_SIZE = 1 << 22;
+
+    public enum Delimiter {
+        // 空白字符分隔，如 "A B 1.0"
+        SPACE,
+        // 逗号分隔，如 "A,B,1.0"
+        COMMA,
+    }
+
+    public record Stats(long lines, long edges, long bytes, long elapsedNanos) {
+        public double edgesPerSecond() {
+            return elapsedNanos == 0 ? 0 : edges * 1e9 / elapsedNanos;
+        }
+    }
+
+    private final Graph graph;
+    private final Delimiter delimiter;
+    private final int windowSize;
+    private final int batchSize;
+
+    public EdgeFileLoader(Graph graph, Delimiter delimiter) {
+        this(graph, delimiter, DEFAULT_WINDOW_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    EdgeFileLoader(Graph graph, Delimiter delimiter, int windowSize, int batchSize) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph cannot be null");
+        }
+        if (windowSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Window size and batch size must be positive");
+        }
+        this.graph = graph;
+        this.delimiter = delimiter == null ? Delimiter.SPACE : delimiter;
+        this.windowSize = windowSize;
+        this.batchSize = batchSize;
+    }
+
+    public Stats load(Path file) throws IOException {
+        long start = System.nanoTime();
+        VertexIndex vertexIndex = graph.vertexIndex();
+        NameTable names = new NameTable(name -> vertexIndex.createVertex(name).id());
+        EdgeLineParser parser = new EdgeLineParser(delimiter, names);
+        EdgeBatch batch = new EdgeBatch(batchSize);
+
+        // 批次满了立即写入图，堆上最多只保留一个批次
+        EdgeLineParser.EdgeSink sink = (from, to, weight) -> {
+            batch.add(from, to, weight);
+            if (batch.size() >= batchSize) {
+                this.flush(batch);
+            }
+        };
+
+        long fileSize;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            long position = 0;
+            while (position < fileSize) {
+                int length = (int) Math.min(windowSize, fileSize - position);
+                boolean last = position + length == fileSize;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                // 窗口末尾不完整的行留到下一个窗口重新映射
+                int consumed = parser.parse(buffer, 0, length, last, sink);
+                if (consumed == 0) {
+                    throw new IllegalStateException("Line exceeds window size at position " + position);
+                }
+                position += consumed;
+            }
+        }
+        this.flush(batch);
+
+        Stats stats = new Stats(parser.lines(), parser.edges(), fileSize, System.nanoTime() - start);
+        log.info("load {} edges from {} in {} ms, {} edges/s",
+                stats.edges(), file, stats.elapsedNanos() / 1_000_000, String.format("%.0f", stats.edgesPerSecond()));
+        return stats;
+    }
+
+    private void flush(EdgeBatch batch) {
+        if (!batch.isEmpty()) {
+            graph.connectAll(batch);
+            batch.clear();
+        }
+    }
+
+}
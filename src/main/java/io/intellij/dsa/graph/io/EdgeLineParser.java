@@ -0,0 +1,203 @@
+package io.intellij.dsa.graph.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * EdgeLineParser
+ * <p>
+ * 直接在字节缓冲区上解析 "from to weight" 或 "from,to,weight" 格式的行，
+ * 不为行创建 String，顶点名称交给 {@link NameTable} 解析为 id。
+ * 少于三列或权重不是数字的行会被忽略，与 GraphUtils 中按行解析的规则一致。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+final class EdgeLineParser {
+    // 可以精确表示的 10 的幂，mantissa < 2^53 时除法结果与 Double.parseDouble 相同
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    @FunctionalInterface
+    interface EdgeSink {
+        void accept(int from, int to, double weight);
+    }
+
+    private final EdgeFileLoader.Delimiter delimiter;
+    private final NameTable names;
+
+    private long lines;
+    private long edges;
+
+    EdgeLineParser(EdgeFileLoader.Delimiter delimiter, NameTable names) {
+        this.delimiter = delimiter;
+        this.names = names;
+    }
+
+    long lines() {
+        return this.lines;
+    }
+
+    long edges() {
+        return this.edges;
+    }
+
+    // 解析 [start, end) 内的完整行，last 为 true 时最后一行可以没有换行符，返回已消费到的位置
+    int parse(ByteBuffer buffer, int start, int end, boolean last, EdgeSink sink) {
+        int lineStart = start;
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                this.parseLine(buffer, lineStart, i, sink);
+                lineStart = i + 1;
+            }
+        }
+        if (last && lineStart < end) {
+            this.parseLine(buffer, lineStart, end, sink);
+            lineStart = end;
+        }
+        return lineStart;
+    }
+
+    private void parseLine(ByteBuffer buffer, int start, int end, EdgeSink sink) {
+        lines++;
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        if (delimiter == EdgeFileLoader.Delimiter.COMMA) {
+            this.parseCommaLine(buffer, start, end, sink);
+        } else {
+            this.parseSpaceLine(buffer, start, end, sink);
+        }
+    }
+
+    private void parseSpaceLine(ByteBuffer buffer, int start, int end, EdgeSink sink) {
+        int fromStart = skipSpace(buffer, start, end);
+        int fromEnd = skipToken(buffer, fromStart, end);
+        int toStart = skipSpace(buffer, fromEnd, end);
+        int toEnd = skipToken(buffer, toStart, end);
+        int weightStart = skipSpace(buffer, toEnd, end);
+        int weightEnd = skipToken(buffer, weightStart, end);
+        if (fromStart == fromEnd || toStart == toEnd || weightStart == weightEnd) {
+            return;
+        }
+        this.emit(buffer, fromStart, fromEnd, toStart, toEnd, weightStart, weightEnd, sink);
+    }
+
+    private void parseCommaLine(ByteBuffer buffer, int start, int end, EdgeSink sink) {
+        int fromEnd = nextComma(buffer, start, end);
+        if (fromEnd == end) {
+            return;
+        }
+        int toEnd = nextComma(buffer, fromEnd + 1, end);
+        if (toEnd == end) {
+            return;
+        }
+        int weightEnd = nextComma(buffer, toEnd + 1, end);
+
+        int fromStart = skipSpace(buffer, start, fromEnd);
+        int toStart = skipSpace(buffer, fromEnd + 1, toEnd);
+        int weightStart = skipSpace(buffer, toEnd + 1, weightEnd);
+        fromEnd = trimEnd(buffer, fromStart, fromEnd);
+        toEnd = trimEnd(buffer, toStart, toEnd);
+        weightEnd = trimEnd(buffer, weightStart, weightEnd);
+        if (fromStart == fromEnd || toStart == toEnd || weightStart == weightEnd) {
+            return;
+        }
+        this.emit(buffer, fromStart, fromEnd, toStart, toEnd, weightStart, weightEnd, sink);
+    }
+
+    private void emit(ByteBuffer buffer, int fromStart, int fromEnd, int toStart, int toEnd,
+                      int weightStart, int weightEnd, EdgeSink sink) {
+        double weight = parseWeight(buffer, weightStart, weightEnd);
+        if (Double.isNaN(weight)) {
+            return;
+        }
+        // 与逐行解析一致，先解析起点再解析终点，保证顶点 id 的分配顺序相同
+        int from = names.resolve(buffer, fromStart, fromEnd);
+        int to = names.resolve(buffer, toStart, toEnd);
+        sink.accept(from, to, weight);
+        edges++;
+    }
+
+    // 解析权重，不合法时返回 NaN
+    static double parseWeight(ByteBuffer buffer, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        byte first = buffer.get(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0, fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fraction) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                // 指数等其他写法交给 Double.parseDouble
+                return slowParseWeight(buffer, start, end);
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        if (digits > 15 || fractionDigits >= POWERS_OF_TEN.length) {
+            return slowParseWeight(buffer, start, end);
+        }
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static double slowParseWeight(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        try {
+            return Double.parseDouble(new String(bytes, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private static int skipSpace(ByteBuffer buffer, int i, int end) {
+        while (i < end && isSpace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipToken(ByteBuffer buffer, int i, int end) {
+        while (i < end && !isSpace(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && isSpace(buffer.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int nextComma(ByteBuffer buffer, int i, int end) {
+        while (i < end && buffer.get(i) != ',') {
+            i++;
+        }
+        return i;
+    }
+
+}
@@ -0,0 +1,253 @@
+package io.intellij.dsa.graph.io;
+
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.VertexIndex;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * GraphSnapshot 图的二进制快照
+ * <p>
+ * 文件格式（小端序，各段按 8 字节对齐）：
+ * <pre>
+ * header  64 bytes : magic, version, flags(directed/weighted), vertices, entries, 各段的起始位置
+ * names            : 每个顶点 int 长度 + UTF-8 字节，按顶点 id 排列
+ * offsets          : int[vertices + 1]
+ * targets          : int[entries]，每行按目标顶点 id 升序
+ * weights          : double[entries]，只有加权图才有
+ * </pre>
+ * 加载时内存映射整个文件，邻接数组按段批量拷贝，不需要逐行解析。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+@Slf4j
+public class GraphSnapshot {
+    static final long MAGIC = 0x485052474153444AL; // "JDSAGRPH"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 1 << 1;
+
+    // 单次映射的最大字节数
+    static final int MAX_MAPPING = 1 << 30;
+
+    private GraphSnapshot() {
+    }
+
+    record Header(boolean directed, boolean weighted, int vertices, long entries,
+                  long namesPos, long offsetsPos, long targetsPos, long weightsPos) {
+    }
+
+    public static void save(Graph graph, Path file) throws IOException {
+        long start = System.nanoTime();
+        int verticesNum = graph.getVerticesNum();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnapshotWriter writer = new SnapshotWriter(channel, HEADER_SIZE);
+
+            // 名称表
+            long namesPos = writer.position();
+            writer.putNames(graph.getVertices());
+
+            // offsets
+            long offsetsPos = writer.align();
+            long entries = 0;
+            writer.putInt(0);
+            for (int v = 0; v < verticesNum; v++) {
+                entries += graph.degree(v);
+                if (entries > Integer.MAX_VALUE - 8) {
+                    throw new IllegalArgumentException("Too many edges for snapshot");
+                }
+                writer.putInt((int) entries);
+            }
+
+            // targets 与 weights 分两遍写出，每行先排序
+            Row row = new Row();
+            long targetsPos = writer.align();
+            for (int v = 0; v < verticesNum; v++) {
+                row.load(graph, v);
+                for (int i = 0; i < row.size; i++) {
+                    writer.putInt(row.targets[i]);
+                }
+            }
+            long weightsPos = 0;
+            if (graph.isWeighted()) {
+                weightsPos = writer.align();
+                for (int v = 0; v < verticesNum; v++) {
+                    row.load(graph, v);
+                    for (int i = 0; i < row.size; i++) {
+                        writer.putDouble(row.weights[i]);
+                    }
+                }
+            }
+            writer.flush();
+
+            Header header = new Header(graph.isDirected(), graph.isWeighted(), verticesNum, entries,
+                    namesPos, offsetsPos, targetsPos, weightsPos);
+            ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            writeHeader(header, headerBuffer);
+            writer.writeHeader(headerBuffer);
+        }
+        log.info("save graph snapshot to {} in {} ms", file, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // 零拷贝打开快照，邻接数组留在映射的文件中
+    public static MappedGraph open(Path file) throws IOException {
+        return MappedGraph.open(file);
+    }
+
+    public static CsrGraph load(Path file) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            VertexIndex vertexIndex = readNames(channel, header);
+
+            int[] offsets = new int[header.vertices + 1];
+            readInts(channel, header.offsetsPos, offsets);
+            int[] targets = new int[(int) header.entries];
+            readInts(channel, header.targetsPos, targets);
+            double[] weights = null;
+            if (header.weighted) {
+                weights = new double[(int) header.entries];
+                readDoubles(channel, header.weightsPos, weights);
+            }
+            CsrGraph graph = CsrGraph.of(vertexIndex, header.directed, header.weighted, offsets, targets, weights);
+            log.info("load graph snapshot from {} in {} ms", file, (System.nanoTime() - start) / 1_000_000);
+            return graph;
+        }
+    }
+
+    static Header readHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IllegalArgumentException("Not a graph snapshot");
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getLong() != MAGIC) {
+            throw new IllegalArgumentException("Not a graph snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+        int flags = buffer.getInt();
+        int vertices = buffer.getInt();
+        buffer.getInt();
+        long entries = buffer.getLong();
+        Header header = new Header((flags & FLAG_DIRECTED) != 0, (flags & FLAG_WEIGHTED) != 0, vertices, entries,
+                buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        long end = header.weighted ? header.weightsPos + header.entries * Double.BYTES : header.targetsPos + header.entries * Integer.BYTES;
+        if (end > channel.size()) {
+            throw new IllegalArgumentException("Truncated graph snapshot");
+        }
+        return header;
+    }
+
+    private static void writeHeader(Header header, ByteBuffer buffer) {
+        int flags = (header.directed ? FLAG_DIRECTED : 0) | (header.weighted ? FLAG_WEIGHTED : 0);
+        buffer.putLong(MAGIC)
+                .putInt(VERSION)
+                .putInt(flags)
+                .putInt(header.vertices)
+                .putInt(0)
+                .putLong(header.entries)
+                .putLong(header.namesPos)
+                .putLong(header.offsetsPos)
+                .putLong(header.targetsPos)
+                .putLong(header.weightsPos);
+    }
+
+    static VertexIndex readNames(FileChannel channel, Header header) throws IOException {
+        return readNames(channel, header.namesPos, header.offsetsPos, header.vertices);
+    }
+
+    // 读取 [position, end) 中 vertices 个顶点的名称表
+    public static VertexIndex readNames(FileChannel channel, long position, long end, int vertices) throws IOException {
+        VertexIndex vertexIndex = new VertexIndex(vertices, false);
+        long length = end - position;
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid name table");
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] bytes = new byte[64];
+        for (int v = 0; v < vertices; v++) {
+            int size = buffer.getInt();
+            if (size > bytes.length) {
+                bytes = new byte[Math.max(size, bytes.length * 2)];
+            }
+            buffer.get(bytes, 0, size);
+            vertexIndex.createVertex(new String(bytes, 0, size, StandardCharsets.UTF_8));
+        }
+        return vertexIndex;
+    }
+
+    private static void readInts(FileChannel channel, long position, int[] target) throws IOException {
+        int step = MAX_MAPPING / Integer.BYTES;
+        for (int from = 0; from < target.length; from += step) {
+            int count = Math.min(step, target.length - from);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position + (long) from * Integer.BYTES, (long) count * Integer.BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(target, from, count);
+        }
+    }
+
+    private static void readDoubles(FileChannel channel, long position, double[] target) throws IOException {
+        int step = MAX_MAPPING / Double.BYTES;
+        for (int from = 0; from < target.length; from += step) {
+            int count = Math.min(step, target.length - from);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position + (long) from * Double.BYTES, (long) count * Double.BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(target, from, count);
+        }
+    }
+
+    // 一行邻边，按目标顶点 id 排序
+    private static class Row {
+        int[] targets = new int[16];
+        double[] weights = new double[16];
+        int size;
+
+        void load(Graph graph, int vertex) {
+            size = 0;
+            graph.forEachAdjacent(vertex, (to, weight) -> {
+                if (size == targets.length) {
+                    targets = Arrays.copyOf(targets, size * 2);
+                    weights = Arrays.copyOf(weights, size * 2);
+                }
+                targets[size] = to;
+                weights[size] = weight;
+                size++;
+            });
+            boolean sorted = true;
+            for (int i = 1; i < size && sorted; i++) {
+                sorted = targets[i - 1] < targets[i];
+            }
+            if (!sorted) {
+                // 高 32 位为目标顶点，低 32 位为原下标
+                long[] keys = new long[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = ((long) targets[i] << 32) | i;
+                }
+                Arrays.sort(keys);
+                int[] sortedTargets = new int[targets.length];
+                double[] sortedWeights = new double[weights.length];
+                for (int i = 0; i < size; i++) {
+                    sortedTargets[i] = (int) (keys[i] >>> 32);
+                    sortedWeights[i] = weights[(int) keys[i]];
+                }
+                targets = sortedTargets;
+                weights = sortedWeights;
+            }
+        }
+    }
+
+}
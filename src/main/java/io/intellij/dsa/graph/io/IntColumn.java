@@ -0,0 +1,66 @@
+package io.intellij.dsa.graph.io;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * IntColumn 只读的 int 数组
+ * <p>
+ * 数据可以在堆上的数组中，也可以是快照文件中内存映射的一段（小端序）。
+ * 按 2^27 个元素分片，单个映射不超过 512MB，整体可以大于 2GB。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public final class IntColumn {
+    static final int CHUNK_SHIFT = 27;
+    static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final IntBuffer[] chunks;
+    private final int length;
+
+    private IntColumn(IntBuffer[] chunks, int length) {
+        this.chunks = chunks;
+        this.length = length;
+    }
+
+    public static IntColumn of(int[] values) {
+        IntBuffer[] chunks = new IntBuffer[chunksOf(values.length)];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c << CHUNK_SHIFT;
+            chunks[c] = IntBuffer.wrap(values, from, Math.min(1 << CHUNK_SHIFT, values.length - from)).slice();
+        }
+        return new IntColumn(chunks, values.length);
+    }
+
+    // 映射文件中从 position 开始的 count 个 int
+    public static IntColumn map(FileChannel channel, long position, long count) throws IOException {
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Column too large: " + count);
+        }
+        IntBuffer[] chunks = new IntBuffer[chunksOf(count)];
+        for (int c = 0; c < chunks.length; c++) {
+            long from = (long) c << CHUNK_SHIFT;
+            long size = Math.min(1L << CHUNK_SHIFT, count - from);
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, position + from * Integer.BYTES, size * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+        }
+        return new IntColumn(chunks, (int) count);
+    }
+
+    static int chunksOf(long count) {
+        return (int) ((count + CHUNK_MASK) >>> CHUNK_SHIFT);
+    }
+
+    public int get(int index) {
+        return chunks[index >>> CHUNK_SHIFT].get(index & CHUNK_MASK);
+    }
+
+    public int length() {
+        return this.length;
+    }
+
+}
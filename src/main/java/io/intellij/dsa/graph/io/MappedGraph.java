@@ -0,0 +1,205 @@
+package io.intellij.dsa.graph.io;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.IntDoubleConsumer;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.VertexIndex;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * MappedGraph 内存映射的只读图
+ * <p>
+ * 直接以 {@link GraphSnapshot} 文件作为存储，offsets / targets / weights 都留在映射的文件页中，
+ * 由操作系统按需换入换出，堆上只保存顶点名称索引。邻接数组可以远大于 JVM 堆。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class MappedGraph implements Graph {
+    private final VertexIndex vertexIndex;
+    private final boolean directed;
+    private final boolean weighted;
+    private final int entries;
+
+    private final IntColumn offsets;
+    private final IntColumn targets;
+    private final DoubleColumn weights;
+
+    private MappedGraph(VertexIndex vertexIndex, GraphSnapshot.Header header,
+                        IntColumn offsets, IntColumn targets, DoubleColumn weights) {
+        this.vertexIndex = vertexIndex;
+        this.directed = header.directed();
+        this.weighted = header.weighted();
+        this.entries = (int) header.entries();
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    // 映射快照文件，只读取头部和名称表
+    public static MappedGraph open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            GraphSnapshot.Header header = GraphSnapshot.readHeader(channel);
+            VertexIndex vertexIndex = GraphSnapshot.readNames(channel, header);
+            IntColumn offsets = IntColumn.map(channel, header.offsetsPos(), header.vertices() + 1L);
+            IntColumn targets = IntColumn.map(channel, header.targetsPos(), header.entries());
+            DoubleColumn weights = header.weighted() ? DoubleColumn.map(channel, header.weightsPos(), header.entries()) : null;
+            return new MappedGraph(vertexIndex, header, offsets, targets, weights);
+        }
+    }
+
+    private int offset(int vertex) {
+        return offsets.get(vertex);
+    }
+
+    private int target(int pos) {
+        return targets.get(pos);
+    }
+
+    private double weight(int pos) {
+        return weights == null ? DEFAULT_UNWEIGHTED_VALUE : weights.get(pos);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return this.directed;
+    }
+
+    @Override
+    public boolean isWeighted() {
+        return this.weighted;
+    }
+
+    @Override
+    public int getVerticesNum() {
+        return vertexIndex.size();
+    }
+
+    @Override
+    public int getEdgesNum() {
+        return this.entries;
+    }
+
+    @Override
+    public List<Vertex> getVertices() {
+        return vertexIndex.getVertices();
+    }
+
+    @Override
+    public Edge getEdge(String from, String to) {
+        if (StringUtils.isBlank(from) || StringUtils.isBlank(to)) {
+            return null;
+        }
+        if (from.equals(to)) {
+            return null;
+        }
+        Vertex fromV = vertexIndex.getVertex(from);
+        Vertex toV = vertexIndex.getVertex(to);
+        if (fromV == null || toV == null) {
+            return null;
+        }
+        // 每行按目标顶点升序，二分查找
+        int low = offset(fromV.id()), high = offset(fromV.id() + 1) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int target = target(mid);
+            if (target < toV.id()) {
+                low = mid + 1;
+            } else if (target > toV.id()) {
+                high = mid - 1;
+            } else {
+                return new Edge(fromV, toV, weight(mid));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void connect(String from, String to, double weight) {
+        throw new UnsupportedOperationException("MappedGraph is read-only");
+    }
+
+    @Override
+    public List<Edge> adjacentEdges(String name) {
+        Vertex vertex = vertexIndex.getVertex(name);
+        return vertex == null ? null : adjacentEdges(vertex.id());
+    }
+
+    @Override
+    public List<Edge> adjacentEdges(int index) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return null;
+        }
+        Vertex source = vertexIndex.getVertex(index);
+        List<Edge> edges = new ArrayList<>(degree(index));
+        forEachAdjacent(index, (to, weight) -> edges.add(new Edge(source, vertexIndex.getVertex(to), weight)));
+        return edges;
+    }
+
+    @Override
+    public int degree(int index) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return 0;
+        }
+        return offset(index + 1) - offset(index);
+    }
+
+    @Override
+    public void forEachAdjacent(int index, IntDoubleConsumer action) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return;
+        }
+        for (int pos = offset(index), end = offset(index + 1); pos < end; pos++) {
+            action.accept(target(pos), weight(pos));
+        }
+    }
+
+    @Override
+    public int findAdjacent(int index, IntPredicate predicate) {
+        if (index < 0 || index >= vertexIndex.size()) {
+            return -1;
+        }
+        for (int pos = offset(index), end = offset(index + 1); pos < end; pos++) {
+            int to = target(pos);
+            if (predicate.test(to)) {
+                return to;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void showGraph() {
+        System.out.println("Graph: " + (directed ? "Directed" : "Undirected") + ", " + (weighted ? "Weighted" : "Unweighted"));
+        System.out.println("Vertices: " + vertexIndex.size());
+        System.out.println("Edges: " + entries);
+
+        System.out.println("Mapped Adjacency:");
+        String startFmt = "%s(%d) : ";
+        String toFmt = "%s(%d) -- %.2f -> %s(%d)   ";
+        for (int fromId = 0; fromId < vertexIndex.size(); fromId++) {
+            Vertex fromV = vertexIndex.getVertex(fromId);
+            System.out.printf(startFmt, fromV.name(), fromId);
+            forEachAdjacent(fromId, (to, weight) -> {
+                Vertex toV = vertexIndex.getVertex(to);
+                System.out.printf(toFmt, fromV.name(), fromV.id(), weight, toV.name(), to);
+            });
+            System.out.println();
+        }
+    }
+
+    @Override
+    public VertexIndex vertexIndex() {
+        return this.vertexIndex;
+    }
+
+}
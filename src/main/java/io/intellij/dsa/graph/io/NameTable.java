@@ -0,0 +1,126 @@
+package io.intellij.dsa.graph.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.ToIntFunction;
+
+/**
+ * NameTable
+ * <p>
+ * 以原始字节为键的顶点名称表，直接对文件缓冲区中的字节做哈希和比较，
+ * 只有第一次出现的名称才会创建 String 并交给 resolver 分配顶点 id。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+final class NameTable {
+    private final ToIntFunction<String> resolver;
+
+    // 哈希槽，存放 entry + 1，0 表示空槽
+    private int[] slots;
+    // 每个 entry 的顶点 id、哈希值，以及名称字节在 pool 中的位置
+    private int[] ids;
+    private int[] hashes;
+    private int[] offsets;
+    private int[] lengths;
+    private byte[] pool;
+    private int poolSize;
+    private int size;
+
+    NameTable(ToIntFunction<String> resolver) {
+        this.resolver = resolver;
+        this.slots = new int[1024];
+        this.ids = new int[512];
+        this.hashes = new int[512];
+        this.offsets = new int[512];
+        this.lengths = new int[512];
+        this.pool = new byte[8192];
+        this.poolSize = 0;
+        this.size = 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    // 解析 buffer 中 [start, end) 的名称，返回顶点 id
+    int resolve(ByteBuffer buffer, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        hash ^= hash >>> 16;
+
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == hash && this.equals(entry, buffer, start, end)) {
+                return ids[entry];
+            }
+        }
+
+        int length = end - start;
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        int id = resolver.applyAsInt(new String(bytes, StandardCharsets.UTF_8));
+        this.add(slot, hash, bytes, id);
+        return id;
+    }
+
+    private boolean equals(int entry, ByteBuffer buffer, int start, int end) {
+        if (lengths[entry] != end - start) {
+            return false;
+        }
+        int offset = offsets[entry];
+        for (int i = start; i < end; i++) {
+            if (pool[offset++] != buffer.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(int slot, int hash, byte[] bytes, int id) {
+        if (size == ids.length) {
+            int newCapacity = size * 2;
+            ids = copyOf(ids, newCapacity);
+            hashes = copyOf(hashes, newCapacity);
+            offsets = copyOf(offsets, newCapacity);
+            lengths = copyOf(lengths, newCapacity);
+        }
+        if (poolSize + bytes.length > pool.length) {
+            byte[] newPool = new byte[Math.max(pool.length * 2, poolSize + bytes.length)];
+            System.arraycopy(pool, 0, newPool, 0, poolSize);
+            pool = newPool;
+        }
+        System.arraycopy(bytes, 0, pool, poolSize, bytes.length);
+        ids[size] = id;
+        hashes[size] = hash;
+        offsets[size] = poolSize;
+        lengths[size] = bytes.length;
+        poolSize += bytes.length;
+        slots[slot] = ++size;
+
+        // 装载因子保持在 1/2 以下
+        if (size * 2 > slots.length) {
+            int[] newSlots = new int[slots.length * 2];
+            int mask = newSlots.length - 1;
+            for (int entry = 0; entry < size; entry++) {
+                int s = hashes[entry] & mask;
+                while (newSlots[s] != 0) {
+                    s = (s + 1) & mask;
+                }
+                newSlots[s] = entry + 1;
+            }
+            slots = newSlots;
+        }
+    }
+
+    private static int[] copyOf(int[] array, int newLength) {
+        int[] copy = new int[newLength];
+        System.arraycopy(array, 0, copy, 0, array.length);
+        return copy;
+    }
+
+}
@@ -0,0 +1,202 @@
+package io.intellij.dsa.graph.io;
+
+import io.intellij.dsa.graph.EdgeBatch;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.VertexIndex;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * ParallelEdgeFileLoader
+ * <p>
+ * 并行加载边列表文件：
+ * <ol>
+ *     <li>按换行符把文件切成若干段</li>
+ *     <li>在 ForkJoinPool 上并行解析每一段，顶点名称先解析为段内的局部 id</li>
+ *     <li>按段的顺序合并局部名称表分配全局 id，再把边重映射为全局 id</li>
+ * </ol>
+ * 每段内的局部名称按首次出现的顺序排列，按段依次合并后全局 id 与顺序加载完全一致。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ParallelEdgeFileLoader {
+    // 每段的目标大小
+    static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private final EdgeFileLoader.Delimiter delimiter;
+    private final int parallelism;
+    private final int chunkSize;
+
+    public ParallelEdgeFileLoader(EdgeFileLoader.Delimiter delimiter, int parallelism) {
+        this(delimiter, parallelism, DEFAULT_CHUNK_SIZE);
+    }
+
+    ParallelEdgeFileLoader(EdgeFileLoader.Delimiter delimiter, int parallelism, int chunkSize) {
+        if (parallelism <= 0 || chunkSize <= 0) {
+            throw new IllegalArgumentException("Parallelism and chunk size must be positive");
+        }
+        this.delimiter = delimiter == null ? EdgeFileLoader.Delimiter.SPACE : delimiter;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    // 加载到已有的图中
+    public EdgeFileLoader.Stats load(Path file, Graph graph) throws IOException {
+        long start = System.nanoTime();
+        Parsed parsed = this.parse(file, graph.vertexIndex());
+        graph.connectAll(parsed.edges);
+        return this.stats(file, parsed, start);
+    }
+
+    // 直接加载为只读的 CSR 图
+    public CsrGraph loadCompressed(Path file, boolean directed, boolean weighted) throws IOException {
+        long start = System.nanoTime();
+        VertexIndex vertexIndex = new VertexIndex();
+        Parsed parsed = this.parse(file, vertexIndex);
+        CsrGraph graph = CsrGraph.of(vertexIndex, directed, weighted, parsed.edges);
+        this.stats(file, parsed, start);
+        return graph;
+    }
+
+    private EdgeFileLoader.Stats stats(Path file, Parsed parsed, long start) {
+        EdgeFileLoader.Stats stats = new EdgeFileLoader.Stats(parsed.lines, parsed.edges.size(), parsed.bytes, System.nanoTime() - start);
+        log.info("load {} edges from {} with {} threads in {} ms, {} edges/s",
+                stats.edges(), file, parallelism, stats.elapsedNanos() / 1_000_000, String.format("%.0f", stats.edgesPerSecond()));
+        return stats;
+    }
+
+    private record Parsed(EdgeBatch edges, long lines, long bytes) {
+    }
+
+    // 一段解析的结果，边使用段内的局部 id
+    private record Chunk(List<String> names, EdgeBatch edges, long lines) {
+    }
+
+    private Parsed parse(Path file, VertexIndex vertexIndex) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long[] bounds = this.split(channel, fileSize);
+
+            List<Chunk> chunks = this.parseChunks(channel, bounds);
+
+            // 按段的顺序分配全局 id
+            int total = 0;
+            long lines = 0;
+            List<int[]> idMaps = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                int[] idMap = new int[chunk.names.size()];
+                for (int i = 0; i < idMap.length; i++) {
+                    idMap[i] = vertexIndex.createVertex(chunk.names.get(i)).id();
+                }
+                idMaps.add(idMap);
+                total += chunk.edges.size();
+                lines += chunk.lines;
+            }
+
+            EdgeBatch edges = new EdgeBatch(total);
+            for (int c = 0; c < chunks.size(); c++) {
+                EdgeBatch local = chunks.get(c).edges;
+                int[] idMap = idMaps.get(c);
+                for (int i = 0; i < local.size(); i++) {
+                    edges.add(idMap[local.from(i)], idMap[local.to(i)], local.weight(i));
+                }
+            }
+            return new Parsed(edges, lines, fileSize);
+        }
+    }
+
+    private List<Chunk> parseChunks(FileChannel channel, long[] bounds) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<Chunk>> futures = new ArrayList<>(bounds.length - 1);
+            for (int c = 0; c + 1 < bounds.length; c++) {
+                long from = bounds[c], to = bounds[c + 1];
+                futures.add(pool.submit(() -> this.parseChunk(channel, from, to)));
+            }
+            List<Chunk> chunks = new ArrayList<>(futures.size());
+            for (Future<Chunk> future : futures) {
+                chunks.add(future.get());
+            }
+            return chunks;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading edges", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IllegalStateException("Failed to parse edges", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Chunk parseChunk(FileChannel channel, long from, long to) {
+        List<String> names = new ArrayList<>();
+        NameTable nameTable = new NameTable(name -> {
+            names.add(name);
+            return names.size() - 1;
+        });
+        EdgeLineParser parser = new EdgeLineParser(delimiter, nameTable);
+        EdgeBatch edges = new EdgeBatch(Math.max(16, (int) ((to - from) / 16)));
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+            parser.parse(buffer, 0, (int) (to - from), true, edges::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Chunk(names, edges, parser.lines());
+    }
+
+    // 切分文件，每个分界点都紧跟在换行符之后
+    private long[] split(FileChannel channel, long fileSize) throws IOException {
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(1 << 16);
+        long position = chunkSize;
+        while (position < fileSize) {
+            long bound = this.nextLineStart(channel, position, fileSize, probe);
+            if (bound >= fileSize) {
+                break;
+            }
+            bounds.add(bound);
+            position = bound + chunkSize;
+        }
+        bounds.add(fileSize);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // position 所在行的下一行的起始位置
+    private long nextLineStart(FileChannel channel, long position, long fileSize, ByteBuffer probe) throws IOException {
+        while (position < fileSize) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+
+}
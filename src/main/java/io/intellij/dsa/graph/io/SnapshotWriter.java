@@ -0,0 +1,107 @@
+package io.intellij.dsa.graph.io;
+
+import io.intellij.dsa.graph.Vertex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * SnapshotWriter
+ * <p>
+ * 快照文件的带缓冲顺序写入，小端序。文件开头预留 headerSize 字节，各段写完后再用 writeHeader 回填头部。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public final class SnapshotWriter {
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    public SnapshotWriter(FileChannel channel, int headerSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        this.position = headerSize;
+    }
+
+    public long position() {
+        return position + buffer.position();
+    }
+
+    // 补齐到 8 字节，返回对齐后的位置
+    public long align() throws IOException {
+        while (position() % 8 != 0) {
+            ensure(1);
+            buffer.put((byte) 0);
+        }
+        return position();
+    }
+
+    public void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void putDouble(double value) throws IOException {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    public void put(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensure(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    public void putInts(IntColumn values) throws IOException {
+        for (int i = 0; i < values.length(); i++) {
+            putInt(values.get(i));
+        }
+    }
+
+    public void putDoubles(DoubleColumn values) throws IOException {
+        for (int i = 0; i < values.length(); i++) {
+            putDouble(values.get(i));
+        }
+    }
+
+    // 名称表：每个顶点 int 长度 + UTF-8 字节，按顶点 id 排列
+    public void putNames(List<Vertex> vertices) throws IOException {
+        for (Vertex vertex : vertices) {
+            byte[] bytes = vertex.name().getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            put(bytes);
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        buffer.clear();
+    }
+
+    // 在文件开头写入头部，调用前先 flush
+    public void writeHeader(ByteBuffer header) throws IOException {
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.intellij.dsa.tree.heap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * IndexMinHeap 索引最小堆
+ * <p>
+ * 元素是 [0, capacity) 范围内的 int 索引，按 double 键值排序，支持 decreaseKey。
+ * 每个索引最多在堆中出现一次，堆的大小不会超过 capacity，操作过程中不分配对象。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class IndexMinHeap {
+    // 堆数组，存放索引
+    private final int[] heap;
+    // 索引在堆数组中的位置，-1 表示不在堆中
+    private final int[] position;
+    // 索引对应的键值
+    private final double[] keys;
+    private int count;
+
+    public IndexMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        Arrays.fill(this.position, -1);
+    }
+
+    public int size() {
+        return this.count;
+    }
+
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    public int capacity() {
+        return this.heap.length;
+    }
+
+    public boolean contains(int index) {
+        checkIndex(index);
+        return position[index] >= 0;
+    }
+
+    public double key(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index not in heap: " + index);
+        }
+        return keys[index];
+    }
+
+    public void insert(int index, double key) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index already in heap: " + index);
+        }
+        keys[index] = key;
+        heap[count] = index;
+        position[index] = count;
+        siftUp(count++);
+    }
+
+    // 键值只能变小
+    public void decreaseKey(int index, double key) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index not in heap: " + index);
+        }
+        if (key > keys[index]) {
+            throw new IllegalArgumentException("Key cannot be increased");
+        }
+        keys[index] = key;
+        siftUp(position[index]);
+    }
+
+    // 不在堆中则插入，在堆中且键值更小则 decreaseKey，返回键值是否被更新
+    public boolean offer(int index, double key) {
+        if (!contains(index)) {
+            insert(index, key);
+            return true;
+        }
+        if (key < keys[index]) {
+            keys[index] = key;
+            siftUp(position[index]);
+            return true;
+        }
+        return false;
+    }
+
+    // 最小键值对应的索引
+    public int peek() {
+        if (count == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    public double peekKey() {
+        return keys[peek()];
+    }
+
+    // 取出最小键值对应的索引
+    public int extract() {
+        int min = peek();
+        swap(0, --count);
+        position[min] = -1;
+        if (count > 0) {
+            siftDown(0);
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            position[heap[i]] = -1;
+        }
+        count = 0;
+    }
+
+    private void siftUp(int k) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (keys[heap[parent]] <= keys[heap[k]]) {
+                break;
+            }
+            swap(k, parent);
+            k = parent;
+        }
+    }
+
+    private void siftDown(int k) {
+        int half = count >>> 1;
+        while (k < half) {
+            int child = 2 * k + 1;
+            if (child + 1 < count && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[heap[k]] <= keys[heap[child]]) {
+                break;
+            }
+            swap(k, child);
+            k = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int t = heap[i];
+        heap[i] = heap[j];
+        heap[j] = t;
+        position[heap[i]] = i;
+        position[heap[j]] = j;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= heap.length) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+    }
+
+}
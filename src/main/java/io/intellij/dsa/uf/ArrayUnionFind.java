@@ -0,0 +1,97 @@
+package io.intellij.dsa.uf;
+
+/**
+ * 基于 int 数组的并查集，元素为 [0, size) 范围内的整数
+ * <p>
+ * 按集合大小合并，查找时路径减半，不需要装箱，适合顶点 id 这样连续的整数。
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class ArrayUnionFind implements UnionFind<Integer> {
+    private final int[] parent;
+    // 根节点所在集合的元素个数
+    private final int[] size;
+    // 集合的个数
+    private int sets;
+
+    public ArrayUnionFind(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be non-negative");
+        }
+        this.parent = new int[size];
+        this.size = new int[size];
+        for (int i = 0; i < size; i++) {
+            this.parent[i] = i;
+            this.size[i] = 1;
+        }
+        this.sets = size;
+    }
+
+    // 元素个数，所有元素在创建时已经加入
+    @Override
+    public int getCount() {
+        return this.parent.length;
+    }
+
+    // 集合的个数
+    public int getSets() {
+        return this.sets;
+    }
+
+    @Override
+    public boolean contains(Integer data) {
+        return data != null && data >= 0 && data < parent.length;
+    }
+
+    @Override
+    public boolean add(Integer data) {
+        return contains(data);
+    }
+
+    public int find(int x) {
+        checkIndex(x);
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    public boolean union(int x, int y) {
+        int rootX = find(x), rootY = find(y);
+        if (rootX == rootY) {
+            return false;
+        }
+        if (size[rootX] < size[rootY]) {
+            int t = rootX;
+            rootX = rootY;
+            rootY = t;
+        }
+        parent[rootY] = rootX;
+        size[rootX] += size[rootY];
+        sets--;
+        return true;
+    }
+
+    public boolean isConnected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    @Override
+    public boolean union(Integer x, Integer y) {
+        return union(x.intValue(), y.intValue());
+    }
+
+    @Override
+    public boolean isConnected(Integer x, Integer y) {
+        return isConnected(x.intValue(), y.intValue());
+    }
+
+    private void checkIndex(int x) {
+        if (x < 0 || x >= parent.length) {
+            throw new IllegalArgumentException("Element out of range: " + x);
+        }
+    }
+
+}
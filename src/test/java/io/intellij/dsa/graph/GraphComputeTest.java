@@ -1,13 +1,36 @@
 package io.intellij.dsa.graph;
 
+import io.intellij.dsa.graph.compute.AStar;
+import io.intellij.dsa.graph.compute.AllPairs;
+import io.intellij.dsa.graph.compute.BellmanFord;
+import io.intellij.dsa.graph.compute.BidirectionalDijkstra;
 import io.intellij.dsa.graph.compute.Components;
 import io.intellij.dsa.graph.compute.CycleAnalyzer;
+import io.intellij.dsa.graph.compute.DeltaStepping;
 import io.intellij.dsa.graph.compute.Dijkstra;
+import io.intellij.dsa.graph.compute.Johnson;
+import io.intellij.dsa.graph.compute.KShortestPaths;
+import io.intellij.dsa.graph.compute.Landmarks;
 import io.intellij.dsa.graph.compute.Mst;
+import io.intellij.dsa.graph.compute.ParallelBfs;
+import io.intellij.dsa.graph.compute.ShortestPath;
 import io.intellij.dsa.graph.compute.Traverse;
+import io.intellij.dsa.graph.impl.CsrGraph;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static io.intellij.dsa.graph.GraphUtils.buildGraph;
@@ -33,6 +56,193 @@ public class GraphComputeTest {
         traverse.bfs("A");
     }
 
+    @Test
+    public void testTraverseVisitor() {
+        Graph graph = buildGraph("""
+                A B 1
+                A C 1
+                B D 1
+                C E 1
+                D E 1
+                E F 1
+                """, false, false);
+        Traverse traverse = new Traverse(graph);
+        VertexIndex index = graph.vertexIndex();
+
+        // 深度遍历的顺序与递归实现相同
+        List<String> dfsOrder = new ArrayList<>();
+        List<String> legacyOrder = new ArrayList<>();
+        traverse.dfs(index.getId("A"), (v, from, weight, depth) -> {
+            dfsOrder.add(index.getVertex(v).name());
+            return Traverse.Action.CONTINUE;
+        });
+        new Traverse(graph, v -> legacyOrder.add(v.name()), e -> {
+        }).dfs("A");
+        Assertions.assertEquals(List.of("A", "B", "D", "E", "C", "F"), dfsOrder);
+        Assertions.assertEquals(dfsOrder, legacyOrder);
+
+        // 广度遍历的层数，每个顶点只访问一次
+        Map<String, Integer> levels = new LinkedHashMap<>();
+        int visited = traverse.bfs(index.getId("A"), (v, from, weight, depth) -> {
+            Assertions.assertNull(levels.put(index.getVertex(v).name(), depth));
+            return Traverse.Action.CONTINUE;
+        });
+        Assertions.assertEquals(6, visited);
+        Assertions.assertEquals(Map.of("A", 0, "B", 1, "C", 1, "D", 2, "E", 2, "F", 3), levels);
+
+        // 剪枝：不展开 B 和 C
+        int pruned = traverse.bfs(index.getId("A"), (v, from, weight, depth) ->
+                depth == 1 ? Traverse.Action.PRUNE : Traverse.Action.CONTINUE);
+        Assertions.assertEquals(3, pruned);
+        // 找到 E 后立即结束
+        int[] found = {-1};
+        int stopped = traverse.dfs(index.getId("A"), (v, from, weight, depth) -> {
+            if (index.getVertex(v).name().equals("E")) {
+                found[0] = depth;
+                return Traverse.Action.STOP;
+            }
+            return Traverse.Action.CONTINUE;
+        });
+        Assertions.assertEquals(3, found[0]);
+        Assertions.assertEquals(4, stopped);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> traverse.dfs(100, (v, from, weight, depth) -> Traverse.Action.CONTINUE));
+    }
+
+    @Test
+    public void testTraverseDeepPath() {
+        // 一百万个顶点的链，递归实现会栈溢出
+        int vertices = 1_000_000;
+        VertexIndex vertexIndex = new VertexIndex(vertices, false);
+        for (int i = 0; i < vertices; i++) {
+            vertexIndex.createVertex(String.valueOf(i));
+        }
+        EdgeBatch batch = new EdgeBatch(vertices - 1);
+        for (int i = 1; i < vertices; i++) {
+            batch.add(i - 1, i, 1);
+        }
+        Graph graph = CsrGraph.of(vertexIndex, false, false, batch);
+        Traverse traverse = new Traverse(graph);
+        int[] maxDepth = {0};
+        Assertions.assertEquals(vertices, traverse.dfs(0, (v, from, weight, depth) -> {
+            maxDepth[0] = Math.max(maxDepth[0], depth);
+            return Traverse.Action.CONTINUE;
+        }));
+        Assertions.assertEquals(vertices - 1, maxDepth[0]);
+        Assertions.assertEquals(vertices, traverse.bfs(vertices / 2, (v, from, weight, depth) -> Traverse.Action.CONTINUE));
+        Assertions.assertEquals(1, new Components(graph).compute().getCount());
+    }
+
+    @Test
+    public void testParallelBfs() {
+        List<Graph> graphs = List.of(
+                randomGraph(500, 1500, 31, false),
+                randomGraph(500, 1500, 31, true),
+                // 较稠密的图，会切换到自底向上
+                randomGraph(300, 12000, 37, false),
+                CsrGraph.of(randomGraph(300, 12000, 37, true))
+        );
+        for (Graph graph : graphs) {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                ParallelBfs.Result result = new ParallelBfs(graph, pool).compute("0");
+                this.checkBfs(graph, graph.vertexIndex().getId("0"), result);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        ParallelBfs.Result dense = new ParallelBfs(graphs.get(2), 2).compute("0");
+        Assertions.assertTrue(dense.getBottomUpSteps() > 0);
+        Assertions.assertEquals(-1, dense.getDepth("not exist"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelBfs(graphs.get(0), 0));
+        IllegalArgumentException nullPool = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBfs(graphs.get(0), (ForkJoinPool) null));
+        Assertions.assertEquals("ForkJoinPool cannot be null", nullPool.getMessage());
+        // 稠密图的自底向上使用矩阵的提前结束查找
+        Graph denseMatrix = buildGraph(GraphUtils.Type.DENSITY, randomGraphText(300, 12000, 37), false, true);
+        ParallelBfs.Result matrixResult = new ParallelBfs(denseMatrix, 2).compute("0");
+        Assertions.assertTrue(matrixResult.getBottomUpSteps() > 0);
+        this.checkBfs(denseMatrix, denseMatrix.vertexIndex().getId("0"), matrixResult);
+    }
+
+    // 与顺序的广度遍历比较层数，并检查父顶点在上一层且存在父顶点到顶点的边
+    private void checkBfs(Graph graph, int source, ParallelBfs.Result result) {
+        int[] expected = new int[graph.getVerticesNum()];
+        Arrays.fill(expected, -1);
+        int visited = new Traverse(graph).bfs(source, (v, from, weight, depth) -> {
+            expected[v] = depth;
+            return Traverse.Action.CONTINUE;
+        });
+        Assertions.assertArrayEquals(expected, result.getDepth());
+        Assertions.assertEquals(visited, result.getVisitedNum());
+        int[] parent = result.getParent();
+        for (int v = 0; v < expected.length; v++) {
+            if (v == source || expected[v] < 0) {
+                Assertions.assertEquals(-1, parent[v]);
+                continue;
+            }
+            Assertions.assertEquals(expected[v] - 1, expected[parent[v]]);
+            int child = v;
+            Assertions.assertEquals(v, graph.findAdjacent(parent[v], to -> to == child));
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testParallelBfsScaling() {
+        // 幂律分布的随机图（优先连接）：顶点 200k，每个新顶点连接 8 条边
+        int vertices = 200_000, degree = 8;
+        Random random = new Random(53);
+        VertexIndex vertexIndex = new VertexIndex(vertices, false);
+        for (int i = 0; i < vertices; i++) {
+            vertexIndex.createVertex(String.valueOf(i));
+        }
+        EdgeBatch batch = new EdgeBatch(vertices * degree);
+        // 已有边的所有端点，均匀抽取端点即按度数比例选择顶点
+        int[] ends = new int[2 * vertices * degree];
+        int endsNum = 0;
+        for (int v = 1; v < vertices; v++) {
+            for (int i = 0; i < degree; i++) {
+                int to = endsNum == 0 ? 0 : ends[random.nextInt(endsNum)];
+                if (to == v) {
+                    continue;
+                }
+                batch.add(v, to, 1);
+                ends[endsNum++] = v;
+                ends[endsNum++] = to;
+            }
+        }
+        Graph graph = CsrGraph.of(vertexIndex, false, false, batch);
+        int[] sources = random.ints(8, 0, vertices).toArray();
+
+        Traverse traverse = new Traverse(graph);
+        long start = System.nanoTime();
+        for (int source : sources) {
+            traverse.bfs(source, (v, from, weight, depth) -> Traverse.Action.CONTINUE);
+        }
+        long sequentialMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("sequential bfs: %d sources, %dms%n", sources.length, sequentialMs);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= Math.max(cores, 4); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ParallelBfs bfs = new ParallelBfs(graph, pool);
+                start = System.nanoTime();
+                ParallelBfs.Result last = null;
+                for (int source : sources) {
+                    last = bfs.compute(String.valueOf(source));
+                }
+                long costMs = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("parallel bfs: threads=%d, %dms, speedup over sequential %.2fx, top-down %d, bottom-up %d%n",
+                        threads, costMs, (double) sequentialMs / Math.max(costMs, 1), last.getTopDownSteps(), last.getBottomUpSteps());
+                Assertions.assertTrue(last.getBottomUpSteps() > 0);
+                this.checkBfs(graph, sources[sources.length - 1], last);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
     @Test
     public void testMstLazyPrim() {
         Mst mst = new Mst(buildGraph("""
@@ -74,6 +284,140 @@ public class GraphComputeTest {
     }
 
 
+    @Test
+    public void testMstEagerPrimBoruvkaAndSortedKruskal() {
+        Mst mst = new Mst(buildGraph("""
+                0 1 4
+                0 5 8
+                1 5 11
+                1 2 8
+                5 6 7
+                2 6 2
+                5 4 8
+                4 6 4
+                2 3 3
+                4 3 3
+                """, false, true));
+        for (Mst.Result result : List.of(mst.eagerPrim(), mst.boruvka(), mst.sortedKruskal())) {
+            result.getEdges().stream().map(Edge.UNDIRECTED_TO_STRING).forEach(System.out::println);
+            Assertions.assertEquals(2 + 3 + 3 + 4 + 7 + 8, result.getTotalWeight());
+            Assertions.assertEquals(6, result.getEdges().size());
+        }
+
+        // 边数超过并行排序的阈值，权重有大量重复
+        Graph random = randomGraph(2000, 30000, 29, false);
+        Assertions.assertEquals(1, new Components(random).compute().getCount());
+        Mst randomMst = new Mst(random);
+        double expected = randomMst.kruskal().getTotalWeight();
+        for (Mst.Result result : List.of(randomMst.eagerPrim(), randomMst.boruvka(), randomMst.sortedKruskal())) {
+            Assertions.assertEquals(1999, result.getEdges().size());
+            Assertions.assertEquals(expected, result.getTotalWeight());
+        }
+    }
+
+    @Test
+    public void testMstForest() {
+        // 4 个连通分量：{0, 1, 2}、{3, 4, 5}、{6, 7} 和孤立顶点 8
+        VertexIndex vertexIndex = new VertexIndex(9, false);
+        for (int i = 0; i < 9; i++) {
+            vertexIndex.createVertex(String.valueOf(i));
+        }
+        EdgeBatch batch = new EdgeBatch(7);
+        batch.add(0, 1, 4);
+        batch.add(1, 2, 8);
+        batch.add(0, 2, 5);
+        batch.add(3, 4, 3);
+        batch.add(4, 5, 1);
+        batch.add(3, 5, 2);
+        batch.add(6, 7, 9);
+        Graph graph = CsrGraph.of(vertexIndex, false, true, batch);
+        // 不连通的图在构造时不再拒绝，求生成树时才报错
+        Mst mst = new Mst(graph);
+        Assertions.assertThrows(IllegalArgumentException.class, mst::lazyPrim);
+        Assertions.assertThrows(IllegalArgumentException.class, mst::kruskal);
+        Assertions.assertThrows(IllegalArgumentException.class, mst::sortedKruskal);
+        Assertions.assertThrows(IllegalArgumentException.class, mst::eagerPrim);
+        Assertions.assertThrows(IllegalArgumentException.class, mst::boruvka);
+
+        Mst.Forest forest = mst.forest();
+        Assertions.assertEquals(4, forest.getComponentsNum());
+        Assertions.assertEquals(9 - 4, forest.getEdges().size());
+        Assertions.assertEquals(4 + 5 + 1 + 2 + 9, forest.getTotalWeight());
+        Assertions.assertEquals(4 + 5, forest.getComponentWeight(forest.getComponent("2")));
+        Assertions.assertEquals(1 + 2, forest.getComponentWeight(forest.getComponent("3")));
+        Assertions.assertEquals(9, forest.getComponentWeight(forest.getComponent("7")));
+        Assertions.assertEquals(0, forest.getComponentWeight(forest.getComponent("8")));
+        Assertions.assertEquals(forest.getComponent("0"), forest.getComponent("1"));
+        Assertions.assertNotEquals(forest.getComponent("0"), forest.getComponent("5"));
+        Assertions.assertEquals(-1, forest.getComponent("9"));
+
+        // 每个分量的权重是它自己的边按顺序相加，不受之前分量的舍入误差影响
+        VertexIndex fractionIndex = new VertexIndex(4, false);
+        for (int i = 0; i < 4; i++) {
+            fractionIndex.createVertex(String.valueOf(i));
+        }
+        EdgeBatch fractions = new EdgeBatch(2);
+        fractions.add(0, 1, 1e16);
+        fractions.add(2, 3, 0.1);
+        Mst.Forest fractionForest = new Mst(CsrGraph.of(fractionIndex, false, true, fractions)).forest();
+        Assertions.assertEquals(0.1, fractionForest.getComponentWeight(fractionForest.getComponent("3")));
+
+        // 连通图的生成森林就是最小生成树
+        Graph random = randomGraph(300, 2000, 23, false);
+        Assertions.assertEquals(1, new Components(random).compute().getCount());
+        Mst.Forest single = new Mst(random).forest();
+        Assertions.assertEquals(1, single.getComponentsNum());
+        Assertions.assertEquals(299, single.getEdges().size());
+        Assertions.assertEquals(new Mst(random).kruskal().getTotalWeight(), single.getTotalWeight());
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testMstBenchmark() {
+        // 随机连通图：先用随机树保证连通，再加入随机边，权重有大量重复
+        int vertices = 10_000, edges = 100_000;
+        Random random = new Random(67);
+        VertexIndex vertexIndex = new VertexIndex(vertices, false);
+        for (int i = 0; i < vertices; i++) {
+            vertexIndex.createVertex(String.valueOf(i));
+        }
+        EdgeBatch batch = new EdgeBatch(edges);
+        for (int i = 1; i < vertices; i++) {
+            batch.add(random.nextInt(i), i, random.nextInt(1000) + 1);
+        }
+        while (batch.size() < edges) {
+            int from = random.nextInt(vertices), to = random.nextInt(vertices);
+            if (from != to) {
+                batch.add(from, to, random.nextInt(1000) + 1);
+            }
+        }
+        Graph graph = CsrGraph.of(vertexIndex, false, true, batch);
+        // lazyPrim 是递归实现，在栈较大的线程中运行
+        runWithLargeStack(() -> this.compareMst(graph, vertices));
+    }
+
+    private void compareMst(Graph graph, int vertices) {
+        Mst mst = new Mst(graph);
+        Map<String, Supplier<Mst.Result>> algorithms = new LinkedHashMap<>();
+        algorithms.put("lazyPrim", mst::lazyPrim);
+        algorithms.put("kruskal", mst::kruskal);
+        algorithms.put("eagerPrim", mst::eagerPrim);
+        algorithms.put("boruvka", mst::boruvka);
+        algorithms.put("sortedKruskal", mst::sortedKruskal);
+        Double expected = null;
+        for (Map.Entry<String, Supplier<Mst.Result>> entry : algorithms.entrySet()) {
+            long start = System.nanoTime();
+            Mst.Result result = entry.getValue().get();
+            System.out.printf("%s: %dms, total weight %.1f%n", entry.getKey(), (System.nanoTime() - start) / 1_000_000, result.getTotalWeight());
+            Assertions.assertEquals(vertices - 1, result.getEdges().size());
+            if (expected == null) {
+                expected = result.getTotalWeight();
+            }
+            Assertions.assertEquals(expected, result.getTotalWeight());
+        }
+    }
+
+
     @Test
     public void testComponents() {
         Components cps = new Components(buildGraph("""
@@ -107,6 +451,432 @@ public class GraphComputeTest {
         Stream.of("B", "C", "D", "E", "F")
                 .map(result::getRoutes)
                 .forEach(result::printRoutes);
+        Assertions.assertEquals(4.0, result.getDistance("F"));
+        Assertions.assertEquals(3, result.getRoutes("F").size());
+    }
+
+    @Test
+    public void testDijkstraUnreachable() {
+        Dijkstra dijkstra = new Dijkstra(buildGraph("""
+                A B 1
+                B C 1
+                D A 1
+                """, true, true)
+        );
+        Dijkstra.Result result = dijkstra.compute("A");
+        Assertions.assertEquals(2.0, result.getDistance("C"));
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, result.getDistance("D"));
+        Assertions.assertTrue(result.getRoutes("D").isEmpty());
+    }
+
+    @Test
+    public void testDijkstraIndexed() {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph graph = randomGraph(500, 5000, 7, directed);
+            Dijkstra.Result lazy = new Dijkstra(graph, Dijkstra.Mode.LAZY).compute("0");
+            Dijkstra.Result indexed = new Dijkstra(graph, Dijkstra.Mode.INDEXED).compute("0");
+            for (Vertex vertex : graph.getVertices()) {
+                Assertions.assertEquals(lazy.getDistance(vertex.name()), indexed.getDistance(vertex.name()));
+                double routeWeight = indexed.getRoutes(vertex.name()).stream().mapToDouble(Edge::getWeight).sum();
+                if (indexed.getDistance(vertex.name()) < Double.POSITIVE_INFINITY) {
+                    Assertions.assertEquals(indexed.getDistance(vertex.name()), routeWeight, 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDijkstraQuery() {
+        Graph graph = randomGraph(500, 5000, 11, true);
+        Dijkstra dijkstra = new Dijkstra(graph);
+        Dijkstra.Result expected = dijkstra.compute("0");
+        // 多线程下反复查询，每个线程复用自己的工作区
+        IntStream.range(0, 2000).parallel().forEach(i -> {
+            String target = String.valueOf(i % 500);
+            ShortestPath path = dijkstra.query("0", target);
+            Assertions.assertEquals(expected.getDistance(target), path.getDistance());
+            Assertions.assertEquals(path.getDistance(), path.getRoutes().stream().mapToDouble(Edge::getWeight).sum(), 1e-9);
+        });
+        // 释放当前线程的工作区之后，下一次查询重新分配
+        dijkstra.release();
+        Assertions.assertEquals(expected.getDistance("499"), dijkstra.query("0", "499").getDistance());
+
+        ShortestPath unreachable = new Dijkstra(buildGraph("""
+                A B 1
+                C A 1
+                """, true, true)).query("A", "C");
+        Assertions.assertFalse(unreachable.isReachable());
+        Assertions.assertTrue(unreachable.getRoutes().isEmpty());
+    }
+
+    @Test
+    public void testBidirectionalDijkstra() {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph graph = randomGraph(500, 3000, 19, directed);
+            Dijkstra dijkstra = new Dijkstra(graph);
+            BidirectionalDijkstra bidirectional = new BidirectionalDijkstra(graph);
+            for (int s = 0; s < 500; s += 37) {
+                Dijkstra.Result expected = dijkstra.compute(String.valueOf(s));
+                for (int t = 0; t < 500; t += 13) {
+                    String target = String.valueOf(t);
+                    ShortestPath path = bidirectional.query(String.valueOf(s), target);
+                    Assertions.assertEquals(expected.getDistance(target), path.getDistance(), 1e-9);
+                    if (path.isReachable()) {
+                        Assertions.assertEquals(path.getDistance(), path.getRoutes().stream().mapToDouble(Edge::getWeight).sum(), 1e-9);
+                        Assertions.assertEquals(target, path.getTarget().name());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAStar() {
+        // 10 x 10 网格，顶点名称为 "x,y"，边权不小于直线距离
+        Random random = new Random(23);
+        StringBuilder text = new StringBuilder();
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                if (x + 1 < 10) {
+                    text.append(x).append(',').append(y).append(' ').append(x + 1).append(',').append(y)
+                            .append(' ').append(1 + random.nextInt(3)).append('\n');
+                }
+                if (y + 1 < 10) {
+                    text.append(x).append(',').append(y).append(' ').append(x).append(',').append(y + 1)
+                            .append(' ').append(1 + random.nextInt(3)).append('\n');
+                }
+            }
+        }
+        Graph grid = buildGraph(text.toString(), false, true);
+        AStar.Heuristic euclidean = AStar.Heuristic.euclidean(
+                vertex -> Integer.parseInt(vertex.name().split(",")[0]),
+                vertex -> Integer.parseInt(vertex.name().split(",")[1]));
+        ShortestPath path = new AStar(grid, euclidean).query("0,0", "9,9");
+        Assertions.assertEquals(new Dijkstra(grid).compute("0,0").getDistance("9,9"), path.getDistance());
+        path.printRoutes();
+
+        // 没有坐标时使用地标
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph graph = randomGraph(500, 3000, 29, directed);
+            AStar alt = new AStar(graph, Landmarks.select(graph, 4));
+            Dijkstra dijkstra = new Dijkstra(graph);
+            for (int s = 0; s < 500; s += 71) {
+                Dijkstra.Result expected = dijkstra.compute(String.valueOf(s));
+                for (int t = 0; t < 500; t += 17) {
+                    String target = String.valueOf(t);
+                    Assertions.assertEquals(expected.getDistance(target), alt.query(String.valueOf(s), target).getDistance(), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDeltaStepping() {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph graph = randomGraph(2000, 20000, 37, directed);
+            Dijkstra.Result expected = new Dijkstra(graph).compute("0");
+            for (double delta : new double[]{1, 10, 50, 1000}) {
+                Dijkstra.Result result = new DeltaStepping(graph, delta, 4).compute("0");
+                for (Vertex vertex : graph.getVertices()) {
+                    Assertions.assertEquals(expected.getDistance(vertex.name()), result.getDistance(vertex.name()));
+                    // 最短路径相同长度时前驱可能与 Dijkstra 不同，只检查路径有效
+                    if (result.getDistance(vertex.name()) < Double.POSITIVE_INFINITY) {
+                        assertShortestRoute(graph, "0", vertex.name(), result.getDistance(vertex.name()), result.getRoutes(vertex.name()));
+                    }
+                }
+            }
+            // 外部传入的线程池
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                Dijkstra.Result pooled = new DeltaStepping(graph, 20, pool).compute("0");
+                for (Vertex vertex : graph.getVertices()) {
+                    Assertions.assertEquals(expected.getDistance(vertex.name()), pooled.getDistance(vertex.name()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        // 零权重边形成的环上前驱不能成环
+        Graph zero = buildGraph("""
+                A B 1
+                B C 0
+                C D 0
+                D B 0
+                D E 2
+                """, true, true);
+        Dijkstra.Result result = new DeltaStepping(zero, 1, 2).compute("A");
+        Assertions.assertEquals(3.0, result.getDistance("E"));
+        Assertions.assertEquals(4, result.getRoutes("E").size());
+
+        // 两条等长路径：前驱取 id 较小的起点
+        Graph tie = buildGraph("""
+                S A 1
+                S B 1
+                A T 1
+                B T 1
+                """, true, true);
+        Dijkstra.Result tieResult = new DeltaStepping(tie, 1, 2).compute("S");
+        assertShortestRoute(tie, "S", "T", 2.0, tieResult.getRoutes("T"));
+        Assertions.assertEquals("A", tieResult.getRoutes("T").get(0).getTo().name());
+    }
+
+    // 路径从 source 出发、首尾相连、到达 target，且每条边都在图中，权重之和为 distance
+    private static void assertShortestRoute(Graph graph, String source, String target, double distance, List<Edge> routes) {
+        String current = source;
+        double weight = 0;
+        for (Edge edge : routes) {
+            Assertions.assertEquals(current, edge.getFrom().name());
+            Assertions.assertNotNull(graph.getEdge(current, edge.getTo().name()));
+            weight += edge.getWeight();
+            current = edge.getTo().name();
+        }
+        Assertions.assertEquals(target, current);
+        Assertions.assertEquals(distance, weight, 1e-9);
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void testDeltaSteppingScaling() {
+        // 随机稀疏图，顶点 200k，边 2M，权重 1 .. 100
+        int vertices = 200_000, edges = 2_000_000;
+        Random random = new Random(41);
+        VertexIndex vertexIndex = new VertexIndex(vertices, false);
+        for (int i = 0; i < vertices; i++) {
+            vertexIndex.createVertex(String.valueOf(i));
+        }
+        EdgeBatch batch = new EdgeBatch(edges);
+        for (int i = 0; i < edges; i++) {
+            batch.add(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(100) + 1);
+        }
+        Graph graph = CsrGraph.of(vertexIndex, true, true, batch);
+
+        long start = System.nanoTime();
+        Dijkstra.Result expected = new Dijkstra(graph, Dijkstra.Mode.INDEXED).compute("0");
+        long dijkstraMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("dijkstra: %dms%n", dijkstraMs);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= Math.max(cores, 4); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                DeltaStepping deltaStepping = new DeltaStepping(graph, 20, pool);
+                start = System.nanoTime();
+                Dijkstra.Result result = deltaStepping.compute("0");
+                long costMs = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("delta stepping: threads=%d, %dms, speedup over dijkstra %.2fx%n",
+                        threads, costMs, (double) dijkstraMs / Math.max(costMs, 1));
+                for (int v = 0; v < vertices; v += 997) {
+                    Assertions.assertEquals(expected.getDistance(String.valueOf(v)), result.getDistance(String.valueOf(v)));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testBellmanFord() {
+        BellmanFord bellmanFord = new BellmanFord(buildGraph("""
+                A B 4
+                A C 5
+                B D -3
+                C B -2
+                D E 2
+                C E 4
+                """, true, true));
+        BellmanFord.Result result = bellmanFord.compute("A");
+        Assertions.assertFalse(result.hasNegativeCycle());
+        Assertions.assertEquals(3.0, result.getDistance("B"));
+        Assertions.assertEquals(0.0, result.getDistance("D"));
+        Assertions.assertEquals(2.0, result.getDistance("E"));
+        // A -> C -> B -> D -> E
+        Assertions.assertEquals(4, result.getRoutes("E").size());
+
+        BellmanFord.Result cyclic = new BellmanFord(buildGraph("""
+                A B 1
+                B C 2
+                C D -4
+                D B 1
+                D E 1
+                """, true, true)).compute("A");
+        Assertions.assertTrue(cyclic.hasNegativeCycle());
+        List<Edge> cycle = cyclic.getNegativeCycle();
+        Assertions.assertEquals(3, cycle.size());
+        Assertions.assertTrue(cycle.stream().mapToDouble(Edge::getWeight).sum() < 0);
+        for (int i = 0; i < cycle.size(); i++) {
+            Assertions.assertEquals(cycle.get(i).getTo(), cycle.get((i + 1) % cycle.size()).getFrom());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Johnson(buildGraph("""
+                A B -1
+                """, false, true)));
+    }
+
+    @Test
+    public void testJohnson() {
+        // 用随机势能构造带负权重边但没有负权环的图
+        Random random = new Random(43);
+        int vertices = 300;
+        int[] potential = random.ints(vertices, 0, 50).toArray();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            int from = random.nextInt(vertices), to = random.nextInt(vertices);
+            if (from != to) {
+                text.append(from).append(' ').append(to).append(' ')
+                        .append(random.nextInt(20) + potential[to] - potential[from]).append('\n');
+            }
+        }
+        Graph graph = buildGraph(text.toString(), true, true);
+        Johnson johnson = new Johnson(graph);
+        BellmanFord bellmanFord = new BellmanFord(graph);
+        for (int s = 0; s < vertices; s += 29) {
+            String source = String.valueOf(s);
+            if (graph.vertexIndex().getVertex(source) == null) {
+                continue;
+            }
+            BellmanFord.Result expected = bellmanFord.compute(source);
+            Dijkstra.Result result = johnson.compute(source);
+            for (Vertex vertex : graph.getVertices()) {
+                Assertions.assertEquals(expected.getDistance(vertex.name()), result.getDistance(vertex.name()), 1e-9);
+                if (result.getDistance(vertex.name()) < Double.POSITIVE_INFINITY) {
+                    double routeWeight = result.getRoutes(vertex.name()).stream().mapToDouble(Edge::getWeight).sum();
+                    Assertions.assertEquals(result.getDistance(vertex.name()), routeWeight, 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAllPairs() {
+        for (boolean directed : new boolean[]{true, false}) {
+            // 顶点数不是分块大小的整数倍
+            Graph graph = GraphUtils.buildGraph(GraphUtils.Type.DENSITY, randomGraphText(150, 4000, 47), directed, true);
+            AllPairs.Result floyd = new AllPairs(graph, AllPairs.Strategy.FLOYD_WARSHALL).compute();
+            AllPairs.Result dijkstra = new AllPairs(graph, AllPairs.Strategy.DIJKSTRA).compute();
+            Assertions.assertEquals(AllPairs.Strategy.FLOYD_WARSHALL, new AllPairs(graph).compute().getStrategy());
+            for (Vertex from : graph.getVertices()) {
+                Dijkstra.Result expected = new Dijkstra(graph).compute(from.name());
+                for (Vertex to : graph.getVertices()) {
+                    double distance = expected.getDistance(to.name());
+                    Assertions.assertEquals(distance, floyd.getDistance(from.name(), to.name()), 1e-9);
+                    Assertions.assertEquals(distance, dijkstra.getDistance(from.name(), to.name()), 1e-9);
+                    if (distance < Double.POSITIVE_INFINITY) {
+                        double routeWeight = floyd.getRoutes(from.name(), to.name()).stream().mapToDouble(Edge::getWeight).sum();
+                        Assertions.assertEquals(distance, routeWeight, 1e-9);
+                    }
+                }
+            }
+        }
+        Assertions.assertEquals(AllPairs.Strategy.DIJKSTRA, new AllPairs(randomGraph(2000, 4000, 53, true)).compute().getStrategy());
+
+        // 负权重边和负权环
+        Graph negative = buildGraph("""
+                A B 4
+                A C 5
+                B D -3
+                C B -2
+                D E 2
+                """, true, true);
+        for (AllPairs.Strategy strategy : AllPairs.Strategy.values()) {
+            AllPairs.Result result = new AllPairs(negative, strategy).compute();
+            Assertions.assertEquals(2.0, result.getDistance("A", "E"));
+            Assertions.assertEquals(-1.0, result.getDistance("B", "E"));
+        }
+        Graph cyclic = buildGraph("""
+                A B 1
+                B C -2
+                C A 0
+                """, true, true);
+        Assertions.assertTrue(new AllPairs(cyclic, AllPairs.Strategy.FLOYD_WARSHALL).compute().hasNegativeCycle());
+        Assertions.assertTrue(new AllPairs(cyclic, AllPairs.Strategy.DIJKSTRA).compute().hasNegativeCycle());
+    }
+
+    @Test
+    public void testDijkstraMultiSource() {
+        Graph graph = randomGraph(1000, 5000, 59, false);
+        Dijkstra dijkstra = new Dijkstra(graph, Dijkstra.Mode.INDEXED);
+        List<String> depots = List.of("0", "100", "200", "300");
+        Dijkstra.MultiSourceResult nearest = dijkstra.computeMultiSource(depots);
+        List<Dijkstra.Result> singles = dijkstra.computeBatch(depots, ForkJoinPool.commonPool());
+        int owned = 0;
+        for (String depot : depots) {
+            owned += nearest.getOwnedVertices(depot).size();
+        }
+        for (Vertex vertex : graph.getVertices()) {
+            double expected = singles.stream().mapToDouble(r -> r.getDistance(vertex.name())).min().orElseThrow();
+            Assertions.assertEquals(expected, nearest.getDistance(vertex.name()));
+            if (expected < Double.POSITIVE_INFINITY) {
+                Vertex owner = nearest.getOwner(vertex.name());
+                Assertions.assertEquals(expected, singles.get(depots.indexOf(owner.name())).getDistance(vertex.name()));
+                List<Edge> routes = nearest.getRoutes(vertex.name());
+                Assertions.assertEquals(expected, routes.stream().mapToDouble(Edge::getWeight).sum(), 1e-9);
+                Assertions.assertEquals(owner.name(), routes.isEmpty() ? vertex.name() : routes.get(0).getFrom().name());
+            }
+        }
+        Assertions.assertEquals(graph.getVertices().stream().filter(v -> nearest.getOwner(v.name()) != null).count(), owned);
+
+        // 批量点到点查询，结果顺序与请求一致
+        List<Dijkstra.Query> queries = IntStream.range(0, 500)
+                .mapToObj(i -> new Dijkstra.Query(String.valueOf(i % 7), String.valueOf(i)))
+                .toList();
+        List<ShortestPath> paths = dijkstra.queryBatch(queries);
+        for (int i = 0; i < queries.size(); i++) {
+            Assertions.assertEquals(queries.get(i).target(), paths.get(i).getTarget().name());
+            Assertions.assertEquals(dijkstra.query(queries.get(i).source(), queries.get(i).target()).getDistance(),
+                    paths.get(i).getDistance());
+        }
+    }
+
+    @Test
+    public void testKShortestPaths() {
+        // 经典示例：C 到 H 的前 3 条无环路径
+        KShortestPaths yen = new KShortestPaths(buildGraph("""
+                C D 3
+                C E 2
+                D F 4
+                E D 1
+                E F 2
+                E G 3
+                F G 2
+                F H 1
+                G H 2
+                """, true, true));
+        List<ShortestPath> paths = yen.compute("C", "H", 3);
+        Assertions.assertEquals(List.of(5.0, 7.0, 8.0), paths.stream().map(ShortestPath::getDistance).toList());
+
+        // 与暴力枚举所有无环路径的结果比较
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph graph = randomGraph(12, 30, 61, directed);
+            List<Double> all = new ArrayList<>();
+            enumeratePaths(graph, graph.vertexIndex().getVertex("0").id(), graph.vertexIndex().getVertex("1").id(),
+                    new boolean[graph.getVerticesNum()], 0.0, all);
+            all.sort(null);
+            List<ShortestPath> top = new KShortestPaths(graph).compute("0", "1", 20);
+            Assertions.assertEquals(Math.min(20, all.size()), top.size());
+            Set<List<Edge>> distinct = new HashSet<>();
+            for (int i = 0; i < top.size(); i++) {
+                ShortestPath path = top.get(i);
+                Assertions.assertEquals(all.get(i), path.getDistance(), 1e-9);
+                Assertions.assertEquals(path.getDistance(), path.getRoutes().stream().mapToDouble(Edge::getWeight).sum(), 1e-9);
+                Assertions.assertTrue(distinct.add(path.getRoutes()));
+                Set<String> visited = new HashSet<>();
+                path.getRoutes().forEach(edge -> Assertions.assertTrue(visited.add(edge.getFrom().name())));
+            }
+        }
+    }
+
+    private static void enumeratePaths(Graph graph, int from, int target, boolean[] onPath, double cost, List<Double> costs) {
+        if (from == target) {
+            costs.add(cost);
+            return;
+        }
+        onPath[from] = true;
+        graph.forEachAdjacent(from, (to, weight) -> {
+            if (!onPath[to]) {
+                enumeratePaths(graph, to, target, onPath, cost + weight, costs);
+            }
+        });
+        onPath[from] = false;
     }
 
     @Test
@@ -190,4 +960,71 @@ public class GraphComputeTest {
         Assertions.assertEquals(2, result.getCycles().size());
     }
 
+    @Test
+    public void testComputeOnCompressedGraph() {
+        Graph graph = GraphUtils.buildCompressedGraph("""
+                0 1 4
+                0 5 8
+                1 5 11
+                1 2 8
+                5 6 7
+                2 6 2
+                5 4 8
+                4 6 4
+                2 3 3
+                4 3 3
+                """, false, true);
+
+        new Traverse(graph).dfs("0");
+        Assertions.assertEquals(1, new Components(graph).compute().getCount());
+        Assertions.assertEquals(2 + 3 + 3 + 4 + 7 + 8, new Mst(graph).lazyPrim().getTotalWeight());
+        Assertions.assertEquals(2 + 3 + 3 + 4 + 7 + 8, new Mst(graph).kruskal().getTotalWeight());
+
+        Dijkstra.Result result = new Dijkstra(graph).compute("0");
+        // 0 -> 1 -> 2 -> 3
+        Assertions.assertEquals(3, result.getRoutes("3").size());
+        Assertions.assertFalse(new CycleAnalyzer(graph).findCycles().getCycles().isEmpty());
+    }
+
+    // 随机带权图，顶点名称为 0 .. vertices - 1，权重为 1 .. 100
+    static Graph randomGraph(int vertices, int edges, long seed, boolean directed) {
+        return buildGraph(randomGraphText(vertices, edges, seed), directed, true);
+    }
+
+    static String randomGraphText(int vertices, int edges, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < edges; i++) {
+            int from = random.nextInt(vertices), to = random.nextInt(vertices);
+            if (from != to) {
+                text.append(from).append(' ').append(to).append(' ').append(random.nextInt(100) + 1).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    static void runWithLargeStack(Runnable task) {
+        Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                failure[0] = e;
+            }
+        }, "large-stack", 1L << 26);
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        if (failure[0] instanceof Error error) {
+            throw error;
+        }
+        if (failure[0] != null) {
+            throw new IllegalStateException(failure[0]);
+        }
+    }
+
 }
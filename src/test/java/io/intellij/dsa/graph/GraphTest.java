@@ -1,7 +1,14 @@
 package io.intellij.dsa.graph;
 
+import io.intellij.dsa.graph.impl.CsrGraph;
+import io.intellij.dsa.graph.impl.DenseGraph;
+import io.intellij.dsa.graph.impl.SparseGraph;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.intellij.dsa.graph.GraphUtils.buildGraph;
 
 /**
@@ -29,4 +36,205 @@ public class GraphTest {
                 .showGraph();
     }
 
+    @Test
+    public void testShowCompressedGraph() {
+        GraphUtils.buildCompressedGraph(graphText, false, false)
+                .showGraph();
+    }
+
+    @Test
+    public void testCompressedGraph() {
+        Graph source = buildGraph("""
+                A B 3
+                A C 1
+                C B 1
+                D A 2
+                """, true, true);
+        CsrGraph csr = CsrGraph.of(source);
+
+        Assertions.assertEquals(source.getVerticesNum(), csr.getVerticesNum());
+        Assertions.assertEquals(source.getEdgesNum(), csr.getEdgesNum());
+        Assertions.assertEquals(
+                source.getEdges().stream().map(Edge.DIRECT_TO_STRING).toList(),
+                csr.getEdges().stream().map(Edge.DIRECT_TO_STRING).toList()
+        );
+        Assertions.assertEquals(1.0, csr.getEdge("C", "B").getWeight());
+        Assertions.assertNull(csr.getEdge("B", "C"));
+        Assertions.assertEquals(0, csr.adjacentEdges("B").size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> csr.connect("B", "D", 1));
+    }
+
+    @Test
+    public void testForEachAdjacent() {
+        String text = """
+                A B 3
+                A C 1
+                C B 2
+                """;
+        Graph dense = buildGraph(GraphUtils.Type.DENSITY, text, true, true);
+        Graph sparse = buildGraph(GraphUtils.Type.SPARSITY, text, true, true);
+        for (Graph graph : List.of(dense, sparse, CsrGraph.of(sparse))) {
+            for (Vertex vertex : graph.getVertices()) {
+                List<String> visited = new ArrayList<>();
+                graph.forEachAdjacent(vertex.id(), (to, weight) ->
+                        visited.add(graph.vertexIndex().getVertex(to).name() + ":" + weight));
+                Assertions.assertEquals(
+                        graph.adjacentEdges(vertex.id()).stream().map(e -> e.getTo().name() + ":" + e.getWeight()).toList(),
+                        visited
+                );
+                Assertions.assertEquals(visited.size(), graph.degree(vertex.id()));
+            }
+        }
+
+        // 查找第一个满足条件的邻接顶点，找到后不再检查后面的邻边
+        Graph unweighted = buildGraph(GraphUtils.Type.DENSITY, text, true, false);
+        for (Graph graph : List.of(dense, unweighted, sparse, CsrGraph.of(sparse))) {
+            int a = graph.vertexIndex().getId("A");
+            List<Integer> tested = new ArrayList<>();
+            int found = graph.findAdjacent(a, to -> {
+                tested.add(to);
+                return true;
+            });
+            Assertions.assertEquals(graph.vertexIndex().getId("B"), found);
+            Assertions.assertEquals(1, tested.size());
+            Assertions.assertEquals(-1, graph.findAdjacent(a, to -> false));
+            Assertions.assertEquals(-1, graph.findAdjacent(100, to -> true));
+        }
+    }
+
+    @Test
+    public void testDenseGraphStorage() {
+        // 无权图位图跨越多个 long
+        Graph unweighted = new DenseGraph(false, false);
+        for (int i = 0; i < 200; i++) {
+            unweighted.connect("v" + i, "v" + ((i + 1) % 200));
+        }
+        Assertions.assertEquals(200, unweighted.getVerticesNum());
+        Assertions.assertEquals(2, unweighted.degree(199));
+        Assertions.assertEquals(List.of("v0", "v198"),
+                unweighted.adjacentEdges("v199").stream().map(edge -> edge.getTo().name()).sorted().toList());
+        Assertions.assertNull(unweighted.getEdge("v0", "v100"));
+
+        // 加权图允许 0 权重
+        Graph weighted = new DenseGraph(true, true);
+        weighted.connect("A", "B", 0);
+        weighted.connect("B", "C", 2.5);
+        Double[][] matrix = weighted.getAdjacencyMatrix();
+        Assertions.assertEquals(0.0, matrix[0][1]);
+        Assertions.assertEquals(2.5, matrix[1][2]);
+        Assertions.assertNull(matrix[1][0]);
+        Assertions.assertEquals(0.0, weighted.getEdge("A", "B").getWeight());
+    }
+
+    @Test
+    public void testDenseGraphBulkBuild() {
+        int n = 2000;
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            text.append(i).append(' ').append((i + 1) % n).append(' ').append(i % 7 + 1).append('\n');
+        }
+        long start = System.currentTimeMillis();
+        Graph graph = buildGraph(GraphUtils.Type.DENSITY, text.toString(), false, true);
+        System.out.println("Build dense graph with " + n + " vertices in " + (System.currentTimeMillis() - start) + " ms");
+        Assertions.assertEquals(n, graph.getVerticesNum());
+        Assertions.assertEquals(2.0, graph.getEdge("1", "2").getWeight());
+
+        DenseGraph presized = new DenseGraph(true, false, 3);
+        presized.connect("A", "B");
+        presized.connect("C", "D");
+        presized.ensureCapacity(100);
+        Assertions.assertNotNull(presized.getEdge("C", "D"));
+        Assertions.assertNull(presized.getEdge("D", "C"));
+    }
+
+    @Test
+    public void testVertexIndex() {
+        VertexIndex index = new VertexIndex();
+        for (int i = 0; i < 10000; i++) {
+            Assertions.assertEquals(i, index.createVertex("v" + i).id());
+        }
+        Assertions.assertEquals(10000, index.size());
+        Assertions.assertEquals(1234, index.getVertex("v1234").id());
+        Assertions.assertEquals(1234, index.getId("v1234"));
+        Assertions.assertSame(index.getVertex(42), index.createVertex("v42"));
+        Assertions.assertNull(index.getVertex("missing"));
+        Assertions.assertNull(index.getVertex((String) null));
+        Assertions.assertEquals(-1, index.getId("missing"));
+
+        VertexIndex interned = new VertexIndex(4, true);
+        String name = new String("A");
+        Assertions.assertSame("A", interned.createVertex(name).name());
+    }
+
+    @Test
+    public void testConnectAll() {
+        List<GraphUtils.EdgePO> edges = List.of(
+                new GraphUtils.EdgePO("A", "B", 3),
+                new GraphUtils.EdgePO("C", "A", 1),
+                new GraphUtils.EdgePO("B", "D", 2),
+                new GraphUtils.EdgePO("A", "B", 5)
+        );
+        for (GraphUtils.Type type : GraphUtils.Type.values()) {
+            for (boolean directed : new boolean[]{true, false}) {
+                GraphUtils sequential = new GraphUtils(type, directed, true);
+                edges.forEach(edge -> sequential.getGraph().connect(edge.from(), edge.to(), edge.weight()));
+                GraphUtils bulk = new GraphUtils(type, directed, true);
+                bulk.connectAll(edges);
+
+                Graph expected = sequential.getGraph(), actual = bulk.getGraph();
+                Assertions.assertEquals(expected.getVerticesNum(), actual.getVerticesNum());
+                Assertions.assertEquals(expected.getEdgesNum(), actual.getEdgesNum());
+                Assertions.assertEquals(
+                        expected.getEdges().stream().map(Edge.DIRECT_TO_STRING).toList(),
+                        actual.getEdges().stream().map(Edge.DIRECT_TO_STRING).toList()
+                );
+                Assertions.assertEquals(5.0, actual.getEdge("A", "B").getWeight());
+            }
+        }
+
+        // 顶点 id 三元组
+        Graph graph = new SparseGraph(true, false);
+        EdgeBatch batch = new EdgeBatch(2);
+        int a = graph.vertexIndex().createVertex("A").id();
+        int b = graph.vertexIndex().createVertex("B").id();
+        batch.add(a, b, 7);
+        batch.add(b, a, 7);
+        graph.connectAll(batch);
+        Assertions.assertEquals(Graph.DEFAULT_UNWEIGHTED_VALUE, graph.getEdge("B", "A").getWeight());
+        Assertions.assertEquals(2, graph.getEdgesNum());
+    }
+
+    @Test
+    public void testConnectAllInvalidEdge() {
+        // 自环边之前的边已经连接，出错的边不创建顶点
+        GraphUtils dense = new GraphUtils(GraphUtils.Type.DENSITY, false, true);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> dense.connect("A B 1\nC C 2", GraphUtils.LINE_TO_EDGE_SPILT_SPACE));
+        Graph graph = dense.getGraph();
+        Assertions.assertEquals(2, graph.getVerticesNum());
+        Assertions.assertEquals(1, graph.degree(1));
+        Assertions.assertEquals(1.0, graph.getEdge("A", "B").getWeight());
+
+        // id 三元组中的自环边，顶点已经在索引中，矩阵仍要与索引一致
+        Graph batchGraph = new DenseGraph(false, true);
+        EdgeBatch batch = new EdgeBatch(2);
+        int a = batchGraph.vertexIndex().createVertex("A").id();
+        int b = batchGraph.vertexIndex().createVertex("B").id();
+        int c = batchGraph.vertexIndex().createVertex("C").id();
+        batch.add(a, b, 1);
+        batch.add(c, c, 2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> batchGraph.connectAll(batch));
+        for (int v = 0; v < batchGraph.getVerticesNum(); v++) {
+            Assertions.assertEquals(0, batchGraph.degree(v));
+            Assertions.assertTrue(batchGraph.adjacentEdges(v).isEmpty());
+        }
+
+        // 稀疏图与逐条 connect 一样只拒绝 null，空白名称可以作为顶点
+        GraphUtils sparse = new GraphUtils(GraphUtils.Type.SPARSITY, true, true);
+        sparse.connectAll(List.of(new GraphUtils.EdgePO(" ", "A", 1)));
+        Assertions.assertEquals(1, sparse.getGraph().degree(sparse.getGraph().vertexIndex().getId(" ")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> sparse.connectAll(List.of(new GraphUtils.EdgePO(null, "A", 1))));
+    }
+
 }
@@ -0,0 +1,202 @@
+package io.intellij.dsa.graph.io;
+
+import io.intellij.dsa.graph.Edge;
+import io.intellij.dsa.graph.Graph;
+import io.intellij.dsa.graph.GraphUtils;
+import io.intellij.dsa.graph.Vertex;
+import io.intellij.dsa.graph.compute.Components;
+import io.intellij.dsa.graph.compute.ContractionHierarchy;
+import io.intellij.dsa.graph.compute.Dijkstra;
+import io.intellij.dsa.graph.compute.ShortestPath;
+import io.intellij.dsa.graph.impl.CsrGraph;
+import io.intellij.dsa.graph.impl.SparseGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * GraphIOTest
+ *
+ * @author tech@intellij.io
+ * @since 2026-10-18
+ */
+public class GraphIOTest {
+
+    @TempDir
+    Path tempDir;
+
+    static String randomGraphText(int vertices, int edges, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < edges; i++) {
+            int from = random.nextInt(vertices), to = random.nextInt(vertices);
+            if (from == to) {
+                continue;
+            }
+            text.append('v').append(from).append(' ').append('v').append(to).append(' ')
+                    .append(random.nextInt(1000) / 10.0).append('\n');
+        }
+        return text.toString();
+    }
+
+    static void assertSameGraph(Graph expected, Graph actual) {
+        Assertions.assertEquals(expected.getVerticesNum(), actual.getVerticesNum());
+        Assertions.assertEquals(
+                expected.getVertices().stream().map(v -> v.id() + ":" + v.name()).toList(),
+                actual.getVertices().stream().map(v -> v.id() + ":" + v.name()).toList()
+        );
+        Assertions.assertEquals(
+                expected.getEdges().stream().map(Edge.DIRECT_TO_STRING).toList(),
+                actual.getEdges().stream().map(Edge.DIRECT_TO_STRING).toList()
+        );
+    }
+
+    @Test
+    public void testParseWeight() {
+        for (String weight : new String[]{"1", "-2.5", "+3.25", "0.1", "123456.789", "1e3", "7.", ".5"}) {
+            ByteBuffer buffer = ByteBuffer.wrap(weight.getBytes());
+            Assertions.assertEquals(Double.parseDouble(weight), EdgeLineParser.parseWeight(buffer, 0, buffer.limit()));
+        }
+        ByteBuffer invalid = ByteBuffer.wrap("abc".getBytes());
+        Assertions.assertTrue(Double.isNaN(EdgeLineParser.parseWeight(invalid, 0, invalid.limit())));
+    }
+
+    @Test
+    public void testLoadEdgeFile() throws IOException {
+        String text = randomGraphText(500, 5000, 7) + "bad line\nA B notNumber\nx  y  2.0  \r\nlast tail 3";
+        Path file = Files.writeString(tempDir.resolve("edges.txt"), text);
+
+        Graph expected = GraphUtils.buildGraph(GraphUtils.Type.SPARSITY, text, true, true);
+        // 小窗口和小批次，覆盖跨窗口的行和多次写入
+        Graph actual = new SparseGraph(true, true);
+        EdgeFileLoader.Stats stats = new EdgeFileLoader(actual, EdgeFileLoader.Delimiter.SPACE, 1000, 333).load(file);
+        assertSameGraph(expected, actual);
+        Assertions.assertEquals(text.split("\n").length, stats.lines());
+        System.out.printf("edges: %d, edges/s: %.0f%n", stats.edges(), stats.edgesPerSecond());
+
+        Graph loaded = GraphUtils.buildGraph(GraphUtils.Type.DENSITY, file, false, true);
+        assertSameGraph(GraphUtils.buildGraph(GraphUtils.Type.DENSITY, text, false, true), loaded);
+    }
+
+    @Test
+    public void testLoadCommaFile() throws IOException {
+        String text = "A, B, 1.5\nB,C,2\nC ,A, 3\n";
+        Path file = Files.writeString(tempDir.resolve("edges.csv"), text);
+
+        GraphUtils expected = new GraphUtils(GraphUtils.Type.SPARSITY, true, true);
+        expected.connect(text, GraphUtils.LINE_TO_EDGE_SPILT_COMMA);
+        GraphUtils actual = new GraphUtils(GraphUtils.Type.SPARSITY, true, true);
+        actual.load(file, EdgeFileLoader.Delimiter.COMMA);
+        assertSameGraph(expected.getGraph(), actual.getGraph());
+    }
+
+    @Test
+    public void testParallelLoad() throws IOException {
+        String text = randomGraphText(2000, 50000, 11);
+        Path file = Files.writeString(tempDir.resolve("parallel.txt"), text);
+
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph expected = GraphUtils.buildGraph(GraphUtils.Type.SPARSITY, text, directed, true);
+            // 小分段保证名称跨段重复出现
+            ParallelEdgeFileLoader loader = new ParallelEdgeFileLoader(EdgeFileLoader.Delimiter.SPACE, 4, 4096);
+
+            Graph sparse = new SparseGraph(directed, true);
+            EdgeFileLoader.Stats stats = loader.load(file, sparse);
+            Assertions.assertEquals(text.split("\n").length, stats.lines());
+            assertSameGraph(expected, sparse);
+            Assertions.assertEquals(expected.getEdgesNum(), sparse.getEdgesNum());
+
+            CsrGraph csr = loader.loadCompressed(file, directed, true);
+            assertSameGraph(CsrGraph.of(expected), csr);
+            Assertions.assertEquals(CsrGraph.of(expected).getEdgesNum(), csr.getEdgesNum());
+        }
+    }
+
+    @Test
+    public void testSnapshot() throws IOException {
+        String text = randomGraphText(300, 3000, 13);
+        for (boolean weighted : new boolean[]{true, false}) {
+            Graph graph = GraphUtils.buildGraph(text, false, weighted);
+            Path file = tempDir.resolve("graph-" + weighted + ".snapshot");
+            GraphSnapshot.save(graph, file);
+
+            CsrGraph loaded = GraphSnapshot.load(file);
+            Assertions.assertFalse(loaded.isDirected());
+            Assertions.assertEquals(weighted, loaded.isWeighted());
+            assertSameGraph(graph, loaded);
+        }
+
+        Path notSnapshot = Files.writeString(tempDir.resolve("text.snapshot"), text);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GraphSnapshot.load(notSnapshot));
+    }
+
+    @Test
+    public void testMappedGraph() throws IOException {
+        String text = randomGraphText(300, 3000, 17);
+        Graph graph = GraphUtils.buildGraph(text, false, true);
+        Path file = tempDir.resolve("graph.mapped");
+        GraphSnapshot.save(graph, file);
+
+        MappedGraph mapped = GraphSnapshot.open(file);
+        assertSameGraph(graph, mapped);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> mapped.connect("a", "b", 1.0));
+
+        // 计算直接运行在映射的图上
+        Assertions.assertEquals(new Components(graph).compute().getCount(), new Components(mapped).compute().getCount());
+        String source = graph.getVertices().get(0).name();
+        Dijkstra.Result expected = new Dijkstra(graph).compute(source);
+        Dijkstra.Result actual = new Dijkstra(mapped).compute(source);
+        for (Vertex vertex : graph.getVertices()) {
+            Assertions.assertEquals(expected.getDistance(vertex.name()), actual.getDistance(vertex.name()), 1e-9);
+        }
+    }
+
+    @Test
+    public void testContractionHierarchy() throws IOException {
+        for (boolean directed : new boolean[]{true, false}) {
+            Graph graph = GraphUtils.buildGraph(randomGraphText(400, 2000, 31), directed, true);
+            ContractionHierarchy ch = ContractionHierarchy.build(graph);
+            Path file = tempDir.resolve("graph-" + directed + ".ch");
+            ch.save(file);
+            ContractionHierarchy loaded = ContractionHierarchy.load(file);
+            Assertions.assertEquals(ch.getEdgesNum(), loaded.getEdgesNum());
+            Assertions.assertEquals(ch.getShortcutsNum(), loaded.getShortcutsNum());
+            Assertions.assertEquals(directed, loaded.isDirected());
+
+            Dijkstra dijkstra = new Dijkstra(graph);
+            for (int s = 0; s < graph.getVerticesNum(); s += 23) {
+                String source = graph.getVertices().get(s).name();
+                Dijkstra.Result expected = dijkstra.compute(source);
+                for (Vertex vertex : graph.getVertices()) {
+                    ShortestPath path = loaded.query(source, vertex.name());
+                    Assertions.assertEquals(expected.getDistance(vertex.name()), path.getDistance(), 1e-9);
+                    // 捷径展开后是原图中首尾相连的边
+                    String at = source;
+                    for (Edge edge : path.getRoutes()) {
+                        Assertions.assertEquals(at, edge.getFrom().name());
+                        Assertions.assertEquals(graph.getEdge(edge.getFrom().name(), edge.getTo().name()).getWeight(), edge.getWeight());
+                        at = edge.getTo().name();
+                    }
+                    if (path.isReachable()) {
+                        Assertions.assertEquals(vertex.name(), at);
+                    }
+                }
+            }
+        }
+
+        Path notCh = Files.writeString(tempDir.resolve("text.ch"), randomGraphText(10, 20, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.load(notCh));
+        // 截断的文件在映射之前就被拒绝
+        byte[] bytes = Files.readAllBytes(tempDir.resolve("graph-true.ch"));
+        Path truncated = Files.write(tempDir.resolve("truncated.ch"), Arrays.copyOf(bytes, bytes.length - 8));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContractionHierarchy.load(truncated));
+    }
+
+}
@@ -3,11 +3,13 @@ package io.intellij.dsa.tree;
 import io.intellij.dsa.DSAUtils;
 import io.intellij.dsa.tree.heap.Heap;
 import io.intellij.dsa.tree.heap.HeapImpl;
+import io.intellij.dsa.tree.heap.IndexMinHeap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Random;
 
 /**
  * HeapTest
@@ -47,4 +49,35 @@ public class HeapTest {
         }
     }
 
+    @Test
+    public void testIndexMinHeap() {
+        int n = 100000;
+        Random random = new Random(3);
+        double[] keys = new double[n];
+        IndexMinHeap heap = new IndexMinHeap(n);
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextDouble() * 1000;
+            heap.insert(i, keys[i]);
+        }
+        // 随机降低一半的键值
+        for (int i = 0; i < n / 2; i++) {
+            int index = random.nextInt(n);
+            keys[index] = keys[index] / 2;
+            heap.decreaseKey(index, keys[index]);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> heap.insert(0, 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(0, keys[0] + 1));
+
+        double last = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double key = heap.peekKey();
+            int index = heap.extract();
+            Assertions.assertEquals(keys[index], key);
+            Assertions.assertTrue(key >= last);
+            Assertions.assertFalse(heap.contains(index));
+            last = key;
+        }
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
 }
@@ -51,6 +51,27 @@ public class UnionFindTest {
         Assertions.assertTrue(uf.isConnected(c, d));
     }
 
+    @Test
+    public void testArrayUF() {
+        ArrayUnionFind uf = new ArrayUnionFind(7);
+
+        Assertions.assertTrue(uf.union(1, 2));
+        Assertions.assertTrue(uf.union(2, 3));
+        Assertions.assertFalse(uf.union(1, 3));
+
+        uf.union(4, 5);
+        uf.union(5, 6);
+
+        Assertions.assertTrue(uf.isConnected(1, 3));
+        Assertions.assertFalse(uf.isConnected(1, 4));
+        Assertions.assertEquals(3, uf.getSets());
+
+        uf.union(1, 6);
+        Assertions.assertTrue(uf.isConnected(3, 4));
+        Assertions.assertEquals(2, uf.getSets());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> uf.find(7));
+    }
+
     private record Node(int id, String name) {
     }
 